@@ -1,3 +1,5 @@
 docker run --name test-mysql -e MYSQL_ROOT_PASSWORD=12345 -d -p 3306:3306 mysql:latest
 
-docker run --name test-phpmyadmin --link test-mysql:db -d -p 8090:80 phpmyadmin/phpmyadmin
\ No newline at end of file
+docker run --name test-phpmyadmin --link test-mysql:db -d -p 8090:80 phpmyadmin/phpmyadmin
+
+docker run --name test-mysql-replica -e MYSQL_ROOT_PASSWORD=12345 -d -p 3307:3306 mysql:latest
\ No newline at end of file
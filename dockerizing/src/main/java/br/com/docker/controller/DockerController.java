@@ -1,10 +1,17 @@
 package br.com.erudio.controller;
 
+import br.com.erudio.health.SaturationMonitor;
 import br.com.erudio.environment.InstanceInformationService;
+import br.com.erudio.model.HealthStatus;
 import br.com.erudio.model.HelloDocker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,9 +24,24 @@ public class DockerController {
 	@Autowired
 	private InstanceInformationService service;
 
-	@GetMapping(path = "/")
-	public String imUpAndRunning() {
-		return "{healthy:true}";
+	@Autowired
+	private ApplicationAvailability availability;
+
+	@Autowired
+	private SaturationMonitor monitor;
+
+	// Load balancers probe "/", so it answers with readiness and stops receiving traffic while saturated.
+	@GetMapping(path = { "/", "/health/readiness" })
+	public ResponseEntity<HealthStatus> readiness() {
+		boolean ready = availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+		return status(ready, ready ? "READY" : "SATURATED");
+	}
+
+	// Liveness ignores saturation: restarting a busy instance would only shift its load onto the others.
+	@GetMapping(path = "/health/liveness")
+	public ResponseEntity<HealthStatus> liveness() {
+		boolean live = availability.getLivenessState() == LivenessState.CORRECT;
+		return status(live, live ? "UP" : "BROKEN");
 	}
 
 	@RequestMapping("/hello-docker")
@@ -32,4 +54,12 @@ public class DockerController {
 			service.retrieveInstanceInfo()
 		);
 	}
+
+	private ResponseEntity<HealthStatus> status(boolean healthy, String status) {
+		SaturationMonitor.Snapshot snapshot = monitor.snapshot();
+		HealthStatus body = new HealthStatus(status, service.retrieveInstanceInfo(),
+				snapshot.busyThreads(), snapshot.maxThreads(), snapshot.p99Millis(),
+				snapshot.threadsAwaitingConnection());
+		return ResponseEntity.status(healthy ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
+	}
 }
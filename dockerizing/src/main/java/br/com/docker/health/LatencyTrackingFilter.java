@@ -0,0 +1,36 @@
+package br.com.erudio.health;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class LatencyTrackingFilter extends OncePerRequestFilter {
+
+	@Autowired
+	private SaturationMonitor monitor;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		long start = System.nanoTime();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			monitor.recordLatency((System.nanoTime() - start) / 1_000_000);
+		}
+	}
+
+	// Probes are cheap and frequent; counting them would hide the latency of real traffic.
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String path = request.getRequestURI();
+		return path.equals("/") || path.startsWith("/health");
+	}
+}
@@ -0,0 +1,45 @@
+package br.com.erudio.health;
+
+import java.util.Arrays;
+
+// Ring buffer of the most recent request latencies; percentiles only consider samples inside the window.
+public class LatencyWindow {
+
+	private final long[] latencies;
+	private final long[] timestamps;
+	private final long windowMillis;
+	private int next;
+
+	public LatencyWindow(int capacity, long windowMillis) {
+		this.latencies = new long[capacity];
+		this.timestamps = new long[capacity];
+		this.windowMillis = windowMillis;
+	}
+
+	public synchronized void record(long latencyMillis, long nowMillis) {
+		latencies[next] = latencyMillis;
+		timestamps[next] = nowMillis;
+		next = (next + 1) % latencies.length;
+	}
+
+	public long percentile(double percentile, long nowMillis) {
+		return percentile(percentile, nowMillis, 1);
+	}
+
+	// Returns 0 while the window holds fewer than minSamples samples, so a lone slow request on a
+	// quiet instance does not read as a saturated p99.
+	public synchronized long percentile(double percentile, long nowMillis, int minSamples) {
+		long[] recent = new long[latencies.length];
+		int count = 0;
+		for (int i = 0; i < latencies.length; i++) {
+			if (timestamps[i] > 0 && nowMillis - timestamps[i] <= windowMillis) {
+				recent[count++] = latencies[i];
+			}
+		}
+		if (count == 0 || count < minSamples) return 0;
+
+		Arrays.sort(recent, 0, count);
+		int index = (int) Math.ceil(percentile / 100 * count) - 1;
+		return recent[Math.max(index, 0)];
+	}
+}
@@ -0,0 +1,130 @@
+package br.com.erudio.health;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+// Flips readiness to REFUSING_TRAFFIC after trip-after consecutive overloaded checks and back
+// after recover-after healthy ones, so a single slow request or GC pause does not flap the balancer.
+@Component
+public class SaturationMonitor {
+
+	Logger logger = LoggerFactory.getLogger(SaturationMonitor.class);
+
+	private final ApplicationEventPublisher publisher;
+	private final LatencyWindow latencies;
+
+	@Value("${app.saturation.thread-pool-threshold:0.9}")
+	private double threadPoolThreshold;
+
+	@Value("${app.saturation.p99-threshold-ms:500}")
+	private long p99ThresholdMillis;
+
+	@Value("${app.saturation.min-samples:20}")
+	private int minSamples;
+
+	@Value("${app.saturation.trip-after:5}")
+	private int tripAfter;
+
+	@Value("${app.saturation.recover-after:3}")
+	private int recoverAfter;
+
+	private volatile ThreadPoolExecutor requestExecutor;
+	private volatile Snapshot last = new Snapshot(0, 0, 0, -1, false);
+	private int overloadedChecks;
+	private int healthyChecks;
+	private boolean refusing;
+
+	public SaturationMonitor(ApplicationEventPublisher publisher,
+			@Value("${app.saturation.window-seconds:10}") long windowSeconds) {
+		this.publisher = publisher;
+		this.latencies = new LatencyWindow(4096, windowSeconds * 1000);
+	}
+
+	@EventListener
+	public void onWebServerInitialized(WebServerInitializedEvent event) {
+		if (event.getWebServer() instanceof TomcatWebServer tomcat) {
+			Connector connector = tomcat.getTomcat().getConnector();
+			if (connector.getProtocolHandler().getExecutor() instanceof ThreadPoolExecutor executor) {
+				requestExecutor = executor;
+			}
+		}
+	}
+
+	public void recordLatency(long millis) {
+		latencies.record(millis, System.currentTimeMillis());
+	}
+
+	@Scheduled(fixedRateString = "${app.saturation.check-interval-ms:1000}")
+	public void check() {
+		ThreadPoolExecutor executor = requestExecutor;
+		int busy = executor != null ? executor.getActiveCount() : 0;
+		int max = executor != null ? executor.getMaximumPoolSize() : 0;
+		long p99 = latencies.percentile(99, System.currentTimeMillis(), minSamples);
+
+		evaluate(busy, max, p99, threadsAwaitingConnection());
+	}
+
+	synchronized void evaluate(int busyThreads, int maxThreads, long p99Millis, int threadsAwaitingConnection) {
+		boolean overloaded = (maxThreads > 0 && (double) busyThreads / maxThreads >= threadPoolThreshold)
+				|| p99Millis >= p99ThresholdMillis
+				|| threadsAwaitingConnection > 0;
+
+		if (overloaded) {
+			overloadedChecks++;
+			healthyChecks = 0;
+		} else {
+			healthyChecks++;
+			overloadedChecks = 0;
+		}
+
+		if (!refusing && overloadedChecks >= tripAfter) {
+			refusing = true;
+			logger.warn("Saturated (threads {}/{}, p99 {} ms, awaiting connection {}), refusing traffic",
+					busyThreads, maxThreads, p99Millis, threadsAwaitingConnection);
+			AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+		} else if (refusing && healthyChecks >= recoverAfter) {
+			refusing = false;
+			logger.info("Recovered from saturation, accepting traffic");
+			AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+		}
+
+		last = new Snapshot(busyThreads, maxThreads, p99Millis, threadsAwaitingConnection, overloaded);
+	}
+
+	public Snapshot snapshot() {
+		return last;
+	}
+
+	// Hikari publishes its pool MBean when register-mbeans is enabled; -1 means there is no pool to report.
+	private int threadsAwaitingConnection() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			int waiting = -1;
+			for (ObjectName pool : server.queryNames(new ObjectName("com.zaxxer.hikari:type=Pool (*)"), null)) {
+				waiting = Math.max(waiting, 0) + (Integer) server.getAttribute(pool, "ThreadsAwaitingConnection");
+			}
+			return waiting;
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+
+	public record Snapshot(int busyThreads, int maxThreads, long p99Millis, int threadsAwaitingConnection,
+			boolean overloaded) {
+	}
+}
@@ -0,0 +1,45 @@
+package br.com.erudio.model;
+
+public class HealthStatus {
+
+	private final String status;
+	private final String instance;
+	private final int busyThreads;
+	private final int maxThreads;
+	private final long p99Millis;
+	private final int threadsAwaitingConnection;
+
+	public HealthStatus(String status, String instance, int busyThreads, int maxThreads, long p99Millis,
+			int threadsAwaitingConnection) {
+		this.status = status;
+		this.instance = instance;
+		this.busyThreads = busyThreads;
+		this.maxThreads = maxThreads;
+		this.p99Millis = p99Millis;
+		this.threadsAwaitingConnection = threadsAwaitingConnection;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public String getInstance() {
+		return instance;
+	}
+
+	public int getBusyThreads() {
+		return busyThreads;
+	}
+
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+	public long getP99Millis() {
+		return p99Millis;
+	}
+
+	public int getThreadsAwaitingConnection() {
+		return threadsAwaitingConnection;
+	}
+}
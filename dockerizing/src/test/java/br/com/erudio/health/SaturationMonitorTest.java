@@ -0,0 +1,89 @@
+package br.com.erudio.health;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaturationMonitorTest {
+
+	private final List<Object> events = new ArrayList<>();
+
+	private SaturationMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		monitor = new SaturationMonitor(events::add, 10);
+		ReflectionTestUtils.setField(monitor, "threadPoolThreshold", 0.9);
+		ReflectionTestUtils.setField(monitor, "p99ThresholdMillis", 500L);
+		ReflectionTestUtils.setField(monitor, "minSamples", 20);
+		ReflectionTestUtils.setField(monitor, "tripAfter", 3);
+		ReflectionTestUtils.setField(monitor, "recoverAfter", 2);
+	}
+
+	@Test
+	void refusesTrafficOnlyAfterSustainedOverload() {
+		monitor.evaluate(190, 200, 20, -1);
+		monitor.evaluate(190, 200, 20, -1);
+		monitor.evaluate(10, 200, 20, -1);
+		monitor.evaluate(10, 200, 900, -1);
+		monitor.evaluate(10, 200, 20, 4);
+		assertTrue(events.isEmpty());
+
+		monitor.evaluate(190, 200, 20, -1);
+
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), states());
+		assertTrue(monitor.snapshot().overloaded());
+	}
+
+	@Test
+	void acceptsTrafficAgainAfterRecovery() {
+		for (int i = 0; i < 3; i++) monitor.evaluate(200, 200, 900, -1);
+		monitor.evaluate(10, 200, 20, -1);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), states());
+
+		monitor.evaluate(10, 200, 20, -1);
+
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), states());
+	}
+
+	@Test
+	void p99IgnoresSamplesOutsideTheWindow() {
+		LatencyWindow window = new LatencyWindow(100, 1000);
+		window.record(5000, 1_000);
+		for (int i = 0; i < 99; i++) window.record(10, 2_500);
+
+		assertEquals(10, window.percentile(99, 2_600));
+	}
+
+	@Test
+	void singleSlowRequestInQuietWindowDoesNotTrip() {
+		monitor.recordLatency(5000);
+		for (int i = 0; i < 10; i++) monitor.check();
+
+		assertTrue(events.isEmpty());
+		assertEquals(0, monitor.snapshot().p99Millis());
+	}
+
+	@Test
+	void p99NeedsMinimumSamples() {
+		LatencyWindow window = new LatencyWindow(100, 1000);
+		for (int i = 0; i < 19; i++) window.record(900, 2_500);
+
+		assertEquals(0, window.percentile(99, 2_600, 20));
+
+		window.record(900, 2_550);
+
+		assertEquals(900, window.percentile(99, 2_600, 20));
+	}
+
+	private List<Object> states() {
+		return events.stream().map(event -> ((AvailabilityChangeEvent<?>) event).getState()).toList();
+	}
+}
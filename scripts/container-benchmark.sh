@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Compares the optimized dockerizing image against the original single-stage one:
+# image size, time to first successful request and memory footprint after startup.
+#
+#   (cd dockerizing && mvn -B package -DskipTests) && scripts/container-benchmark.sh [runs] [memory-limit]
+#
+#   scripts/container-benchmark.sh 5 512m
+set -euo pipefail
+
+RUNS="${1:-5}"
+MEMORY="${2:-512m}"
+PORT=18080
+CONTEXT="$(cd "$(dirname "$0")/../dockerizing" && pwd)"
+
+docker build -q -t hello-docker:baseline -f - "$CONTEXT" > /dev/null <<'DOCKERFILE'
+FROM eclipse-temurin:21-jdk
+COPY target/*.jar app.jar
+ENTRYPOINT ["java","-jar","/app.jar"]
+DOCKERFILE
+docker build -q -t hello-docker:optimized "$CONTEXT" > /dev/null
+
+measure() {
+  local image="$1" results=() memory=""
+  for run in $(seq 1 "$RUNS"); do
+    start=$(date +%s%N)
+    id=$(docker run -d --rm --memory "$MEMORY" -p "$PORT:80" "$image")
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/"; do
+      if [[ -z "$(docker ps -q -f id="$id")" ]]; then echo "$image: container exited before serving" >&2; exit 1; fi
+      sleep 0.05
+    done
+
+    results+=("$(( ($(date +%s%N) - start) / 1000000 ))")
+    memory=$(docker stats --no-stream --format '{{.MemUsage}}' "$id" | cut -d/ -f1)
+    docker stop -t 5 "$id" > /dev/null
+  done
+
+  sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+  size=$(docker image inspect -f '{{.Size}}' "$image")
+  printf '%-24s size %5d MB   startup median %5d ms (min %d, max %d)   memory %s\n' \
+    "$image" $(( size / 1024 / 1024 )) "${sorted[$(( RUNS / 2 ))]}" "${sorted[0]}" "${sorted[$(( RUNS - 1 ))]}" "$memory"
+}
+
+measure hello-docker:baseline
+measure hello-docker:optimized
@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+# Creates the self-signed keystore used by the "tls" profile. It is written under target/ so the
+# private key never ends up in version control.
+#
+#   scripts/generate-local-cert.sh [keystore-path]
+#   java -jar target/rest-api-0.0.1-SNAPSHOT.jar --spring.profiles.active=tls
+#   curl -k --http2 https://localhost:8443/api/book/v1/1
+set -euo pipefail
+
+KEYSTORE="${1:-${APP_TLS_KEYSTORE:-target/tls/local-keystore.p12}}"
+PASSWORD="${APP_TLS_KEYSTORE_PASSWORD:-changeit}"
+
+mkdir -p "$(dirname "$KEYSTORE")"
+rm -f "$KEYSTORE"
+
+keytool -genkeypair \
+  -alias local \
+  -keyalg EC -groupname secp256r1 \
+  -validity 365 \
+  -dname "CN=localhost" \
+  -ext "SAN=dns:localhost,ip:127.0.0.1" \
+  -storetype PKCS12 \
+  -keystore "$KEYSTORE" \
+  -storepass "$PASSWORD"
+
+echo "Keystore written to $KEYSTORE"
@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Compares the JVM and native builds: startup to first request, RSS after a warm-up,
+# and steady-state throughput on findById. Needs both builds and wrk on the PATH:
+#
+#   mvn -DskipTests package && mvn -Pnative -DskipTests native:compile
+#   scripts/native-benchmark.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR="target/rest-api-0.0.1-SNAPSHOT.jar"
+NATIVE="target/rest-api"
+URL="http://localhost:8080/api/book/v1/1"
+DURATION="${DURATION:-30s}"
+
+measure() {
+  local label="$1"; shift
+
+  echo "== $label: startup"
+  scripts/startup-benchmark.sh 3 "$URL" -- "$@"
+
+  "$@" > /dev/null 2>&1 &
+  local pid=$!
+  until curl -sf -o /dev/null "$URL"; do sleep 0.05; done
+
+  echo "== $label: warm-up"
+  wrk -t2 -c32 -d10s "$URL" > /dev/null
+
+  echo "== $label: steady state ($DURATION)"
+  wrk -t4 -c64 -d"$DURATION" --latency "$URL"
+  echo "RSS after load: $(ps -o rss= -p "$pid" | tr -d ' ') KB"
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+}
+
+measure "JVM" java -jar "$JAR"
+measure "native" "$NATIVE"
@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Measures time from process launch to the first successful response, over several runs.
+#
+#   scripts/startup-benchmark.sh [runs] [url] -- <launch command...>
+#
+#   scripts/startup-benchmark.sh 5 -- java -jar target/rest-api-0.0.1-SNAPSHOT.jar
+#   scripts/startup-benchmark.sh 5 -- java -XX:SharedArchiveFile=target/cds/application.jsa \
+#       -jar target/cds/rest-api-0.0.1-SNAPSHOT.jar --spring.profiles.active=fast-startup
+set -euo pipefail
+
+RUNS=5
+URL="http://localhost:8080/api/person/v1/1"
+
+while [[ $# -gt 0 && "$1" != "--" ]]; do
+  if [[ "$1" =~ ^[0-9]+$ ]]; then RUNS="$1"; else URL="$1"; fi
+  shift
+done
+[[ "${1:-}" == "--" ]] && shift
+[[ $# -gt 0 ]] || { echo "usage: $0 [runs] [url] -- <launch command...>" >&2; exit 1; }
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  "$@" > /dev/null 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then echo "run $run: application exited before serving $URL" >&2; exit 1; fi
+    sleep 0.05
+  done
+
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+  echo "run $run: first successful request after ${elapsed} ms (RSS ${rss} KB)"
+  results+=("$elapsed")
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+echo "median: ${sorted[$(( RUNS / 2 ))]} ms, min: ${sorted[0]} ms, max: ${sorted[$(( RUNS - 1 ))]} ms"
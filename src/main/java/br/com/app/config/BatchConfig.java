@@ -0,0 +1,66 @@
+package br.com.app.config;
+
+import br.com.app.datasource.ReadWriteRoutingContext;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Configuration
+public class BatchConfig {
+
+    // Bounded on both threads and queue; once full the request thread runs the operation itself,
+    // which throttles the batch instead of failing it.
+    @Bean
+    ThreadPoolTaskExecutor batchExecutor(@Value("${app.batch.pool-size:8}") int poolSize,
+                                         @Value("${app.batch.queue-capacity:256}") int queueCapacity) {
+        ContextPropagatingTaskDecorator contextPropagation = new ContextPropagatingTaskDecorator();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // Observations/trace context via context-propagation; request attributes (HATEOAS links are
+        // built from the current request) and the MDC by hand.
+        executor.setTaskDecorator(runnable -> contextPropagation.decorate(withRequestContext(runnable)));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(20);
+        return executor;
+    }
+
+    // With CallerRunsPolicy the task may run on the request thread itself, so whatever was bound to
+    // the thread before is put back afterwards instead of being cleared. The read/write routing
+    // state is shared with the request rather than copied: a write on one worker keeps the rest of
+    // the batch on the primary, and nothing of it stays behind on the pooled thread.
+    static Runnable withRequestContext(Runnable runnable) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        AtomicBoolean sticky = attributes != null ? ReadWriteRoutingContext.share() : null;
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            AtomicBoolean previousSticky = ReadWriteRoutingContext.get();
+            RequestContextHolder.setRequestAttributes(attributes);
+            if (mdc != null) MDC.setContextMap(mdc);
+            ReadWriteRoutingContext.set(sticky);
+            try {
+                runnable.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                if (previousMdc != null) MDC.setContextMap(previousMdc);
+                else MDC.clear();
+                ReadWriteRoutingContext.set(previousSticky);
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// app.flyway.mode:
+//   migrate       apply pending migrations on boot (default, local development)
+//   migrate-only  apply pending migrations and exit; run once per rollout (profile "migrate")
+//   verify        skip Flyway and only check the schema history against the expected version
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.flyway.mode:migrate}") String mode,
+            @Value("${app.flyway.expected-version}") String expectedVersion,
+            @Value("${app.flyway.expected-checksum:#{null}}") Integer expectedChecksum) {
+        return flyway -> {
+            if ("verify".equals(mode)) {
+                new SchemaVersionVerifier(flyway.getConfiguration().getDataSource(),
+                        flyway.getConfiguration().getTable())
+                        .verify(expectedVersion, expectedChecksum);
+            } else {
+                flyway.migrate();
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.flyway.mode", havingValue = "migrate-only")
+    ApplicationRunner exitAfterMigration(ConfigurableApplicationContext context) {
+        return args -> System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.app.config;
+
+import br.com.app.lifecycle.InFlightRequestFilter;
+import br.com.app.lifecycle.ShutdownDrainLifecycle;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class GracefulShutdownConfig {
+
+    @Bean
+    InFlightRequestFilter inFlightRequestFilter(MeterRegistry registry) {
+        InFlightRequestFilter filter = new InFlightRequestFilter();
+        Gauge.builder("app.http.inflight", filter, InFlightRequestFilter::getInFlight)
+                .description("Requests currently being processed")
+                .register(registry);
+        return filter;
+    }
+
+    @Bean
+    FilterRegistrationBean<InFlightRequestFilter> inFlightRequestFilterRegistration(InFlightRequestFilter filter) {
+        FilterRegistrationBean<InFlightRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    ShutdownDrainLifecycle shutdownDrainLifecycle(InFlightRequestFilter filter,
+                                                  @Value("${app.shutdown.readiness-grace:0s}") Duration readinessGrace) {
+        return new ShutdownDrainLifecycle(filter, readinessGrace);
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.app.config;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// server.http2.enabled makes Boot add Tomcat's Http2Protocol to the main connector: h2 over ALPN
+// when TLS is on (profile "tls"), h2c (prior knowledge or Upgrade) otherwise. This tunes the
+// per-connection stream limits and, with app.http2.internal-port, opens a second cleartext h2c
+// connector for service-to-service traffic next to the TLS one.
+@Configuration
+@ConditionalOnProperty(name = "server.http2.enabled", havingValue = "true")
+public class Http2Config {
+
+    @Value("${app.http2.max-concurrent-streams:200}")
+    private long maxConcurrentStreams;
+
+    @Value("${app.http2.max-concurrent-stream-execution:50}")
+    private int maxConcurrentStreamExecution;
+
+    @Value("${app.http2.initial-window-size:1048576}")
+    private int initialWindowSize;
+
+    @Value("${app.http2.internal-port:0}")
+    private int internalPort;
+
+    @Bean
+    WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2Customizer() {
+        return factory -> {
+            factory.addConnectorCustomizers(connector -> {
+                for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                    if (protocol instanceof Http2Protocol http2) tune(http2);
+                }
+            });
+            if (internalPort > 0) {
+                Connector internal = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+                internal.setPort(internalPort);
+                Http2Protocol http2 = new Http2Protocol();
+                tune(http2);
+                internal.addUpgradeProtocol(http2);
+                factory.addAdditionalTomcatConnectors(internal);
+            }
+        };
+    }
+
+    private void tune(Http2Protocol http2) {
+        // Streams a client may open on one connection, and how many of them run on request threads at once;
+        // the rest wait on the connection instead of occupying the shared pool.
+        http2.setMaxConcurrentStreams(maxConcurrentStreams);
+        http2.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+        http2.setInitialWindowSize(initialWindowSize);
+    }
+}
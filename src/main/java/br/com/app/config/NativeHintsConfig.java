@@ -0,0 +1,51 @@
+package br.com.app.config;
+
+import br.com.app.data.dto.BookDTO;
+import br.com.app.data.dto.PersonDTO;
+import br.com.app.model.Book;
+import br.com.app.model.Person;
+import br.com.app.serialization.converter.YamlJackson2HttpMessageConverter;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+// Reachability metadata Spring AOT cannot infer on its own: Dozer maps DTOs and entities
+// reflectively, datasource-proxy wraps JDBC objects in JDK proxies, and the XML/YAML
+// Jackson modules discover their factories through service files.
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.AppRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : new Class<?>[] {BookDTO.class, PersonDTO.class, Book.class, Person.class}) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            hints.reflection().registerType(YamlJackson2HttpMessageConverter.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            for (Class<?> jdbcType : new Class<?>[] {Connection.class, Statement.class,
+                    PreparedStatement.class, CallableStatement.class}) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+
+            hints.resources().registerPattern("dozer.properties");
+            hints.resources().registerPattern("META-INF/services/javax.xml.stream.*");
+            hints.resources().registerPattern("META-INF/services/com.fasterxml.jackson.*");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.app.config;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// A single indexed read of the schema history table, instead of Flyway's validate(), which
+// resolves and checksums every migration script and takes the history lock.
+public class SchemaVersionVerifier {
+
+    private Logger logger = LoggerFactory.getLogger(SchemaVersionVerifier.class.getName());
+
+    private final DataSource dataSource;
+
+    private final String table;
+
+    public SchemaVersionVerifier(DataSource dataSource, String table) {
+        this.dataSource = dataSource;
+        this.table = table;
+    }
+
+    public void verify(String expectedVersion, Integer expectedChecksum) {
+        String sql = "SELECT version, checksum FROM " + table
+                + " WHERE success = TRUE AND version IS NOT NULL ORDER BY installed_rank DESC LIMIT 1";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+
+            if (!resultSet.next()) {
+                throw new IllegalStateException("Schema has no applied migrations, run the migrate mode first!");
+            }
+
+            MigrationVersion current = MigrationVersion.fromVersion(resultSet.getString("version"));
+            MigrationVersion expected = MigrationVersion.fromVersion(expectedVersion);
+            int checksum = resultSet.getInt("checksum");
+
+            if (current.isNewer(expected.getVersion())) {
+                logger.warn("Schema version {} is newer than the expected {}, continuing", current, expected);
+                return;
+            }
+            if (!current.equals(expected)) {
+                throw new IllegalStateException("Schema version " + current + " is older than the expected "
+                        + expected + ", run the migrate mode first!");
+            }
+            if (expectedChecksum != null && expectedChecksum != checksum) {
+                throw new IllegalStateException("Checksum of schema version " + current + " is " + checksum
+                        + " but " + expectedChecksum + " was expected!");
+            }
+
+            logger.info("Schema is at the expected version {}", current);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read the schema history table " + table, e);
+        }
+    }
+}
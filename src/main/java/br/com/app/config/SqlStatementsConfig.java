@@ -0,0 +1,42 @@
+package br.com.app.config;
+
+import br.com.app.datasource.SqlStatementListener;
+import br.com.app.datasource.SqlStatementsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatementsConfig {
+
+    // Only the application-facing "dataSource" is proxied; with read/write routing enabled the
+    // individual pools stay unwrapped, so each statement is counted exactly once.
+    @Bean
+    static BeanPostProcessor sqlStatementsDataSourcePostProcessor(
+            @Value("${app.sql.slow-threshold-ms:200}") long slowThresholdMillis) {
+        SqlStatementListener listener = new SqlStatementListener(slowThresholdMillis);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    SqlStatementsFilter sqlStatementsFilter(MeterRegistry registry,
+                                            @Value("${app.sql.debug-headers:false}") boolean debugHeaders) {
+        return new SqlStatementsFilter(registry, debugHeaders);
+    }
+}
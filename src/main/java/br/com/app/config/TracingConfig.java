@@ -0,0 +1,36 @@
+package br.com.app.config;
+
+import br.com.app.metrics.PipelineMetrics;
+import br.com.app.tracing.FileSpanExporter;
+import br.com.app.tracing.InMemorySpanExporter;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationRegistryCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    ObservationRegistryCustomizer<ObservationRegistry> pipelineObservationRegistry() {
+        return PipelineMetrics::setObservationRegistry;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "memory")
+    InMemorySpanExporter inMemorySpanExporter(@Value("${app.tracing.memory.capacity:2000}") int capacity) {
+        return new InMemorySpanExporter(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "file")
+    FileSpanExporter fileSpanExporter(@Value("${app.tracing.file.path:target/traces/spans.jsonl}") Path path)
+            throws IOException {
+        return new FileSpanExporter(path);
+    }
+}
@@ -1,12 +1,29 @@
 package br.com.app.config;
 
+import br.com.app.metrics.LatencyRecordingInterceptor;
+import br.com.app.metrics.SerializationTimingAdvice;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private SerializationTimingAdvice serializationTimingAdvice;
+
+    @Autowired
+    private LatencyRecordingInterceptor latencyRecordingInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(latencyRecordingInterceptor);
+        registry.addInterceptor(serializationTimingAdvice);
+    }
+
     @Override
     public void configureContentNegotiation(ContentNegotiationConfigurer configurer){
 
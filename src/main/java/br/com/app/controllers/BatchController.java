@@ -0,0 +1,26 @@
+package br.com.app.controllers;
+
+import br.com.app.data.dto.BatchRequestDTO;
+import br.com.app.data.dto.BatchResponseDTO;
+import br.com.app.services.BatchServices;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    @Autowired
+    private BatchServices service;
+
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public BatchResponseDTO execute(@RequestBody BatchRequestDTO request){
+        return service.execute(request);
+    }
+}
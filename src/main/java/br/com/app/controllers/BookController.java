@@ -1,6 +1,8 @@
 package br.com.app.controllers;
 
 import br.com.app.controllers.docs.BookControllerDocs;
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.ChangeSetDTO;
 import br.com.app.data.dto.BookDTO;
 import br.com.app.services.BookServices;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,6 +39,24 @@ public class BookController implements BookControllerDocs {
         return service.findById(id);
     }
 
+    @GetMapping(params = "ids", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            MediaType.APPLICATION_YAML_VALUE})
+    @Override
+    public BatchLookupDTO<BookDTO> findByIds(@RequestParam("ids") List<Long> ids){
+        return service.findByIds(ids);
+    }
+
+    @GetMapping(value = "/changes", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            MediaType.APPLICATION_YAML_VALUE})
+    @Override
+    public ChangeSetDTO<BookDTO> findChanges(@RequestParam(value = "since", required = false) String since){
+        return service.findChanges(since);
+    }
+
     @PostMapping(
             consumes = {MediaType.APPLICATION_JSON_VALUE,
                     MediaType.APPLICATION_XML_VALUE,
@@ -0,0 +1,51 @@
+package br.com.app.controllers;
+
+import br.com.app.events.ChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/changes/v1")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeed feed;
+
+    @Value("${app.changes.emitter-timeout:30m}")
+    private Duration timeout;
+
+    // Browsers' EventSource sends Last-Event-ID automatically when it reconnects.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                             @RequestParam(value = "entity", required = false) String entity){
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        ChangeFeed.Subscription subscription = feed.subscribe(lastEventId, entity, new ChangeFeed.Sink() {
+            @Override
+            public void send(String name, Long id, Object data) throws IOException {
+                SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+                emitter.send(id != null ? event.id(String.valueOf(id)) : event);
+            }
+
+            @Override
+            public void complete() {
+                emitter.complete();
+            }
+        });
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.app.controllers;
+
+import br.com.app.datasource.SqlStatementsFilter;
+import br.com.app.services.ExportServices;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Globals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+// Serves the export snapshots straight from disk. On Tomcat the body goes out through sendfile
+// (FileChannel.transferTo on the socket, no copy through the heap); anywhere else the file is
+// transferred through the servlet output stream. The response is marked as a stream so the SQL
+// debug headers never hold a dump in memory.
+// Single byte ranges are honoured for resumable downloads, guarded by If-Range on the ETag.
+@RestController
+@RequestMapping("/api/export/v1")
+public class ExportController {
+
+    @Autowired
+    private ExportServices service;
+
+    @GetMapping("/{entity}/{format}")
+    public void export(@PathVariable("entity") String entity, @PathVariable("format") String format,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        request.setAttribute(SqlStatementsFilter.STREAMING_ATTRIBUTE, Boolean.TRUE);
+        ExportServices.Snapshot snapshot = service.findSnapshot(entity, format);
+        long length = snapshot.length();
+
+        if (new ServletWebRequest(request, response).checkNotModified(snapshot.etag(), snapshot.generation())) {
+            return;
+        }
+
+        response.setContentType(snapshot.format().getContentType());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(snapshot.fileName()).build().toString());
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && rangeStillValid(request.getHeader(HttpHeaders.IF_RANGE), snapshot)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                // Multipart byteranges are not worth it for dumps; several ranges get the whole file.
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || start > end) throw new IllegalArgumentException("Range not satisfiable");
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(Globals.SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(Globals.SENDFILE_FILENAME_ATTR, snapshot.path().toAbsolutePath().toString());
+            request.setAttribute(Globals.SENDFILE_FILE_START_ATTR, start);
+            request.setAttribute(Globals.SENDFILE_FILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(snapshot.path())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long sent = file.transferTo(position, end + 1 - position, out);
+                if (sent <= 0) break;
+                position += sent;
+            }
+        }
+    }
+
+    // If-Range carries the ETag the client saw; a different one means the file changed and the whole new one is sent.
+    private static boolean rangeStillValid(String ifRange, ExportServices.Snapshot snapshot) {
+        return ifRange == null || ifRange.equals(snapshot.etag());
+    }
+}
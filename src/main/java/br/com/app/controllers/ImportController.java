@@ -0,0 +1,42 @@
+package br.com.app.controllers;
+
+import br.com.app.data.dto.ImportJobDTO;
+import br.com.app.services.ImportServices;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/import/v1")
+public class ImportController {
+
+    @Autowired
+    private ImportServices service;
+
+    // The body is read straight from the request stream, never bound or buffered as a whole.
+    // curl -T books.csv -H 'Content-Type: text/csv' http://localhost:8080/api/import/v1/book
+    @PostMapping(value = "/{entity}", consumes = {"text/csv", "application/x-ndjson"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ImportJobDTO importRows(@PathVariable("entity") String entity, HttpServletRequest request) throws IOException {
+        return service.importRows(entity, request.getHeader(HttpHeaders.CONTENT_TYPE), request.getInputStream());
+    }
+
+    @GetMapping(value = "/jobs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<ImportJobDTO> findJobs(){
+        return service.findJobs();
+    }
+
+    @GetMapping(value = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ImportJobDTO findJob(@PathVariable("id") Long id){
+        return service.findJob(id);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.app.controllers;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/test/v1")
+@ConditionalOnProperty(name = "app.logging.benchmark.enabled", havingValue = "true")
+public class LogBenchmarkController {
+
+    // Excluded from rate sampling (app.logging.sampling.exclude), so every line reaches the appenders.
+    private Logger logger = LoggerFactory.getLogger("br.com.app.logging.benchmark");
+
+    // Run once with the default (async) logging and once with
+    // --spring.profiles.active=sync-logging to compare the cost per request.
+    //
+    // The async appender never blocks, so once its queue fills events are dropped instead of
+    // written and the timing no longer measures logging. The lowest free queue capacity seen is
+    // reported; queueFilled=true means some lines may have been dropped and the run should be
+    // repeated with fewer requests or a larger app.logging.async.queue-size.
+    @GetMapping("/benchmark")
+    public Map<String, Object> benchmark(
+            @RequestParam(value = "requests", defaultValue = "10000") int requests,
+            @RequestParam(value = "linesPerRequest", defaultValue = "3") int linesPerRequest){
+        AsyncAppender async = asyncAppender();
+        int minRemaining = async == null ? -1 : async.getRemainingCapacity();
+
+        long start = System.nanoTime();
+        for (int request = 0; request < requests; request++) {
+            for (int line = 0; line < linesPerRequest; line++) {
+                logger.info("Benchmark request {} line {}", request, line);
+            }
+            if (async != null) minRemaining = Math.min(minRemaining, async.getRemainingCapacity());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", requests);
+        result.put("linesPerRequest", linesPerRequest);
+        result.put("totalMillis", elapsed / 1_000_000.0);
+        result.put("nanosPerRequest", requests == 0 ? 0 : elapsed / (double) requests);
+        result.put("appender", async == null ? "sync" : "async");
+        if (async != null) {
+            result.put("queueSize", async.getQueueSize());
+            result.put("discardingThreshold", async.getDiscardingThreshold());
+            result.put("minRemainingCapacity", minRemaining);
+            result.put("queueFilled", minRemaining == 0);
+        }
+        return result;
+    }
+
+    private static AsyncAppender asyncAppender() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) return null;
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof AsyncAppender async) return async;
+        }
+        return null;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.app.controllers;
 
 import br.com.app.controllers.docs.PersonControllerDocs;
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.ChangeSetDTO;
 import br.com.app.data.dto.PersonDTO;
 import br.com.app.services.PersonServices;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,6 +39,24 @@ public class PersonController implements PersonControllerDocs {
         return service.findById(id);
     }
 
+    @GetMapping(params = "ids", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            MediaType.APPLICATION_YAML_VALUE})
+    @Override
+    public BatchLookupDTO<PersonDTO> findByIds(@RequestParam("ids") List<Long> ids){
+        return service.findByIds(ids);
+    }
+
+    @GetMapping(value = "/changes", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            MediaType.APPLICATION_YAML_VALUE})
+    @Override
+    public ChangeSetDTO<PersonDTO> findChanges(@RequestParam(value = "since", required = false) String since){
+        return service.findChanges(since);
+    }
+
     @PostMapping(
             consumes = {MediaType.APPLICATION_JSON_VALUE,
                     MediaType.APPLICATION_XML_VALUE,
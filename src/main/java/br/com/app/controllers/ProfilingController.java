@@ -0,0 +1,61 @@
+package br.com.app.controllers;
+
+import br.com.app.data.dto.ProfilingSummaryDTO;
+import br.com.app.services.ProfilingServices;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/v1/profiling")
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class ProfilingController {
+
+    @Autowired
+    private ProfilingServices service;
+
+    @PostMapping("/start")
+    public Map<String, String> start(
+            @RequestParam(value = "preset", defaultValue = "cpu") String preset,
+            @RequestParam(value = "maxDurationSeconds", defaultValue = "300") long maxDurationSeconds) throws IOException {
+        var name = service.start(ProfilingServices.Preset.of(preset), Duration.ofSeconds(maxDurationSeconds));
+        return Map.of("recording", name, "status", service.status());
+    }
+
+    @GetMapping("/status")
+    public Map<String, String> status(){
+        return Map.of("status", service.status());
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<?> stop(
+            @RequestParam(value = "mode", defaultValue = "file") String mode,
+            @RequestParam(value = "top", defaultValue = "20") int top) throws IOException {
+        Path file = service.stop();
+
+        if ("summary".equalsIgnoreCase(mode)) {
+            return ResponseEntity.ok(service.summarizeLast(top));
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    @GetMapping("/summary")
+    public ProfilingSummaryDTO summary(@RequestParam(value = "top", defaultValue = "20") int top) throws IOException {
+        return service.summarizeLast(top);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.app.controllers;
+
+import br.com.app.data.dto.LatencyStatsDTO;
+import br.com.app.metrics.LatencyHistograms;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/v1/stats")
+public class StatsController {
+
+    @Autowired
+    private LatencyHistograms histograms;
+
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_XML_VALUE,
+            MediaType.APPLICATION_YAML_VALUE})
+    public List<LatencyStatsDTO> findAll(){
+        return histograms.snapshot();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.app.controllers;
+
+import br.com.app.tracing.InMemorySpanExporter;
+import br.com.app.tracing.SpanRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/v1/traces")
+@ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "memory")
+public class TraceController {
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @GetMapping
+    public List<SpanRecord> findAll(@RequestParam(value = "traceId", required = false) String traceId){
+        return exporter.getFinishedSpans()
+                .stream()
+                .filter(span -> traceId == null || traceId.equals(span.traceId()))
+                .toList();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> reset(){
+        exporter.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.app.controllers.docs;
 
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.ChangeSetDTO;
 import br.com.app.data.dto.BookDTO;
 import br.com.app.data.dto.PersonDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -58,6 +61,40 @@ public interface BookControllerDocs {
     )
     BookDTO findById(@PathVariable("id") Long id);
 
+    @Operation(
+            summary = "Finds Books by a list of IDs",
+            description = "Finds up to 1000 Books with a single query, in request order, reporting the IDs that were not found",
+            tags = {"Book"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = BatchLookupDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    BatchLookupDTO<BookDTO> findByIds(@RequestParam("ids") List<Long> ids);
+
+    @Operation(
+            summary = "Finds Books changed since a sync token",
+            description = "Returns Books created or updated and the IDs deleted since the given token, plus the token for the next call. Omit since for a full first sync",
+            tags = {"Book"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = ChangeSetDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ChangeSetDTO<BookDTO> findChanges(@RequestParam(value = "since", required = false) String since);
+
     @Operation(
             summary = "Adds a new Book",
             description = "Add a new specific Book",
@@ -1,5 +1,7 @@
 package br.com.app.controllers.docs;
 
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.ChangeSetDTO;
 import br.com.app.data.dto.PersonDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -56,6 +58,40 @@ public interface PersonControllerDocs {
     )
     PersonDTO findById(@PathVariable("id") Long id);
 
+    @Operation(
+            summary = "Finds Persons by a list of IDs",
+            description = "Finds up to 1000 Persons with a single query, in request order, reporting the IDs that were not found",
+            tags = {"People"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = BatchLookupDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    BatchLookupDTO<PersonDTO> findByIds(@RequestParam("ids") List<Long> ids);
+
+    @Operation(
+            summary = "Finds People changed since a sync token",
+            description = "Returns People created or updated and the IDs deleted since the given token, plus the token for the next call. Omit since for a full first sync",
+            tags = {"Person"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = ChangeSetDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
+            }
+    )
+    ChangeSetDTO<PersonDTO> findChanges(@RequestParam(value = "since", required = false) String since);
+
     @Operation(
             summary = "Adds a new Person",
             description = "Add a new specific Person",
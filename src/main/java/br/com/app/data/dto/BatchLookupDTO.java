@@ -0,0 +1,7 @@
+package br.com.app.data.dto;
+
+import java.util.List;
+
+public record BatchLookupDTO<T>(List<T> items, List<Long> missingIds) {
+
+}
@@ -0,0 +1,14 @@
+package br.com.app.data.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+// mode: "parallel" (default) runs operations concurrently, "sequential" runs them in order,
+// "transactional" runs them in order inside one transaction that rolls back on the first failure.
+public record BatchRequestDTO(String mode, List<Operation> operations) {
+
+    public record Operation(String method, String path, JsonNode body) {
+
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.app.data.dto;
+
+import java.util.List;
+
+public record BatchResponseDTO(boolean rolledBack, List<Result> results) {
+
+    public record Result(int status, Object body) {
+
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.app.data.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.io.Serializable;
@@ -20,8 +21,24 @@ public class BookDTO extends RepresentationModel<BookDTO> implements Serializabl
 
     private Date launchDate;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Date updatedAt;
+
     public BookDTO() {}
 
+    public BookDTO(Long id, String title, String author, Double price, Date launchDate) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.price = price;
+        this.launchDate = launchDate;
+    }
+
+    public BookDTO(Long id, String title, String author, Double price, Date launchDate, Date updatedAt) {
+        this(id, title, author, price, launchDate);
+        this.updatedAt = updatedAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -62,6 +79,14 @@ public class BookDTO extends RepresentationModel<BookDTO> implements Serializabl
         this.launchDate = launchDate;
     }
 
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -0,0 +1,7 @@
+package br.com.app.data.dto;
+
+import java.time.Instant;
+
+public record ChangeEventDTO(long id, String entity, String type, Long entityId, Object data, Instant timestamp) {
+
+}
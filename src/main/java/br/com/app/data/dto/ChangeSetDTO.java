@@ -0,0 +1,8 @@
+package br.com.app.data.dto;
+
+import java.util.List;
+
+// Pass nextToken as ?since= on the next call; keep calling while hasMore is true.
+public record ChangeSetDTO<T>(List<T> upserts, List<Long> deletes, String nextToken, boolean hasMore) {
+
+}
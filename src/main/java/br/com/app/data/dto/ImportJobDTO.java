@@ -0,0 +1,13 @@
+package br.com.app.data.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+// errors holds at most app.import.max-errors entries; rowsFailed keeps counting past that.
+public record ImportJobDTO(Long id, String entity, String status, long rowsRead, long rowsImported, long rowsFailed,
+                           List<RowError> errors, String message, Instant startedAt, Instant finishedAt) {
+
+    public record RowError(long row, String message) {
+
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.app.data.dto;
+
+public record LatencyStatsDTO(String method, String route, String status, Window interval, Window cumulative) {
+
+    public record Window(long count, double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+    }
+}
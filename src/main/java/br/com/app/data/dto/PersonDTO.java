@@ -1,8 +1,10 @@
 package br.com.app.data.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.Objects;
 
 public class PersonDTO extends RepresentationModel<PersonDTO> implements Serializable {
@@ -19,8 +21,24 @@ public class PersonDTO extends RepresentationModel<PersonDTO> implements Seriali
 
     private String gender;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Date updatedAt;
+
     public PersonDTO() {}
 
+    public PersonDTO(Long id, String firstName, String lastName, String address, String gender) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.address = address;
+        this.gender = gender;
+    }
+
+    public PersonDTO(Long id, String firstName, String lastName, String address, String gender, Date updatedAt) {
+        this(id, firstName, lastName, address, gender);
+        this.updatedAt = updatedAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -61,6 +79,14 @@ public class PersonDTO extends RepresentationModel<PersonDTO> implements Seriali
         this.gender = gender;
     }
 
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -0,0 +1,11 @@
+package br.com.app.data.dto;
+
+import java.util.List;
+
+public record ProfilingSummaryDTO(String preset, long events, List<Site> hotMethods,
+                                  List<Site> allocationSites, List<Site> lockSites) {
+
+    public record Site(String frame, long samples, long total) {
+
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.app.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
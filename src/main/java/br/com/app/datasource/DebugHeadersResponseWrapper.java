@@ -0,0 +1,130 @@
+package br.com.app.datasource;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+// Holds the body back so the SQL debug headers can still be set once the handler is done, until
+// the response turns out to be a stream: a handler that set STREAMING_ATTRIBUTE, or a request that
+// went async (SSE). From then on whatever was held is sent and writes go straight through.
+class DebugHeadersResponseWrapper extends HttpServletResponseWrapper {
+
+    private final HttpServletRequest request;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+    private boolean streaming;
+
+    private ServletOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    DebugHeadersResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+        super(response);
+        this.request = request;
+    }
+
+    synchronized boolean isStreaming() {
+        return streaming || request.getAttribute(SqlStatementsFilter.STREAMING_ATTRIBUTE) != null
+                || request.isAsyncStarted();
+    }
+
+    // Sends what was held back and stops buffering. Characters still in the writer are newer than
+    // the held bytes and follow them on its next flush.
+    synchronized void stream() throws IOException {
+        if (streaming) return;
+        streaming = true;
+        if (buffer.size() > 0) {
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+    }
+
+    // End of the handler: a buffered body goes out in one piece. A stream is left to the container,
+    // so Tomcat's sendfile still sees an uncommitted response.
+    synchronized void finish() throws IOException {
+        if (writer != null) writer.flush();
+        if (!streaming && buffer.size() > 0) {
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+    }
+
+    private synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        if (!streaming && isStreaming()) stream();
+        if (streaming) getResponse().getOutputStream().write(bytes, offset, length);
+        else buffer.write(bytes, offset, length);
+    }
+
+    private synchronized void flushStream() throws IOException {
+        if (!streaming && isStreaming()) stream();
+        if (streaming) getResponse().getOutputStream().flush();
+    }
+
+    @Override
+    public synchronized ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    DebugHeadersResponseWrapper.this.write(new byte[] {(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    DebugHeadersResponseWrapper.this.write(bytes, offset, length);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    flushStream();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    throw new UnsupportedOperationException("Non-blocking writes are not supported with SQL debug headers");
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public synchronized PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    // A buffered response must not be committed before the headers are added.
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) writer.flush();
+        flushStream();
+    }
+
+    @Override
+    public synchronized void resetBuffer() {
+        buffer.reset();
+        super.resetBuffer();
+    }
+
+    @Override
+    public synchronized void reset() {
+        buffer.reset();
+        super.reset();
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.app.datasource;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ReadWriteRoutingContext {
+
+    // A holder rather than a flag, so threads working for the same request (batch workers) can share it.
+    private static final ThreadLocal<AtomicBoolean> STICKY_PRIMARY = new ThreadLocal<>();
+
+    private ReadWriteRoutingContext() {}
+
+    public static void markWrite() {
+        AtomicBoolean sticky = STICKY_PRIMARY.get();
+        if (sticky == null) STICKY_PRIMARY.set(new AtomicBoolean(true));
+        else sticky.set(true);
+    }
+
+    public static boolean isStickyPrimary() {
+        AtomicBoolean sticky = STICKY_PRIMARY.get();
+        return sticky != null && sticky.get();
+    }
+
+    // The current thread's state, created if needed, for handing to threads doing work on its behalf.
+    public static AtomicBoolean share() {
+        AtomicBoolean sticky = STICKY_PRIMARY.get();
+        if (sticky == null) {
+            sticky = new AtomicBoolean();
+            STICKY_PRIMARY.set(sticky);
+        }
+        return sticky;
+    }
+
+    public static AtomicBoolean get() {
+        return STICKY_PRIMARY.get();
+    }
+
+    public static void set(AtomicBoolean sticky) {
+        if (sticky == null) STICKY_PRIMARY.remove();
+        else STICKY_PRIMARY.set(sticky);
+    }
+
+    public static void clear() {
+        STICKY_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.app.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> replicas;
+
+    private final List<String> replicaKeys;
+
+    private final boolean stickyAfterWrite;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public RoutingDataSource(DataSource primary, List<DataSource> replicas, boolean stickyAfterWrite) {
+        this.replicas = replicas;
+        this.stickyAfterWrite = stickyAfterWrite;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceType.PRIMARY.name(), primary);
+
+        this.replicaKeys = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = DataSourceType.REPLICA.name() + "-" + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            if (stickyAfterWrite && TransactionSynchronizationManager.isActualTransactionActive()
+                    && RequestContextHolder.getRequestAttributes() != null) {
+                ReadWriteRoutingContext.markWrite();
+            }
+            return DataSourceType.PRIMARY.name();
+        }
+
+        if (replicaKeys.isEmpty() || (stickyAfterWrite && ReadWriteRoutingContext.isStickyPrimary())) {
+            return DataSourceType.PRIMARY.name();
+        }
+
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    logger.warn("Failed to close replica pool", e);
+                }
+            }
+        }
+    }
+}
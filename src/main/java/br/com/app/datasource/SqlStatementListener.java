@@ -0,0 +1,40 @@
+package br.com.app.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private Logger logger = LoggerFactory.getLogger(SqlStatementListener.class.getName());
+
+    private final long slowThresholdMillis;
+
+    public SqlStatementListener(long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowThresholdMillis;
+
+        if (slow) {
+            logger.warn("Slow SQL statement ({} ms): {}", elapsed, sql);
+        }
+
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.record(sql, elapsed, slow);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.app.datasource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_SLOW_STATEMENTS = 20;
+
+    private int statements;
+
+    private int selects;
+
+    private int inserts;
+
+    private int updates;
+
+    private int deletes;
+
+    private long elapsedMillis;
+
+    private final List<String> slowStatements = new ArrayList<>();
+
+    private SqlStatementStats() {}
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlStatementStats end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void record(String sql, long elapsedMillis, boolean slow) {
+        statements++;
+        this.elapsedMillis += elapsedMillis;
+
+        String verb = sql.stripLeading();
+        verb = verb.substring(0, Math.min(6, verb.length())).toLowerCase();
+        switch (verb) {
+            case "select" -> selects++;
+            case "insert" -> inserts++;
+            case "update" -> updates++;
+            case "delete" -> deletes++;
+            default -> { }
+        }
+
+        if (slow && slowStatements.size() < MAX_SLOW_STATEMENTS) {
+            slowStatements.add(sql);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getInserts() {
+        return inserts;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public int getDeletes() {
+        return deletes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public List<String> getSlowStatements() {
+        return Collections.unmodifiableList(slowStatements);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.app.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class SqlStatementsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String SLOW_HEADER = "X-Sql-Slow-Statements";
+
+    // Set by handlers that write their body as they go (file downloads); with debug headers on,
+    // their response is then passed through instead of being held in memory. Async requests (SSE)
+    // are detected on their own.
+    public static final String STREAMING_ATTRIBUTE = SqlStatementsFilter.class.getName() + ".STREAMING";
+
+    private final MeterRegistry registry;
+
+    private final boolean debugHeaders;
+
+    public SqlStatementsFilter(MeterRegistry registry, boolean debugHeaders) {
+        this.registry = registry;
+        this.debugHeaders = debugHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Headers must be written before the body is committed, so debug mode holds the body back
+        // until the handler is done, unless the response turns out to be a stream.
+        DebugHeadersResponseWrapper wrapper = debugHeaders ? new DebugHeadersResponseWrapper(request, response) : null;
+
+        SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            SqlStatementStats stats = SqlStatementStats.end();
+            record(request, stats);
+            if (wrapper != null) {
+                if (wrapper.isStreaming()) {
+                    wrapper.stream();
+                } else {
+                    wrapper.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                    wrapper.setHeader(TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+                    wrapper.setHeader(SLOW_HEADER, String.valueOf(stats.getSlowStatements().size()));
+                }
+                wrapper.finish();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getStatements());
+
+        Timer.builder("app.sql.time")
+                .description("Time spent executing SQL per HTTP request")
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (!stats.getSlowStatements().isEmpty()) {
+            registry.counter("app.sql.slow", "uri", uri).increment(stats.getSlowStatements().size());
+        }
+    }
+}
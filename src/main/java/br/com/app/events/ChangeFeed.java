@@ -0,0 +1,213 @@
+package br.com.app.events;
+
+import br.com.app.data.dto.ChangeEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Fans committed entity changes out to stream subscribers.
+//
+// Event ids increase monotonically and start from the boot time in microseconds, so an id a
+// client saw before a restart is always older than the current buffer and triggers a reset
+// instead of silently skipping events. The last replay-capacity events are kept in a ring
+// buffer for Last-Event-ID resumption. Each subscriber owns a bounded queue drained by its own
+// virtual thread; a subscriber whose queue is full is disconnected rather than buffered without
+// limit, and resumes from its Last-Event-ID when it reconnects.
+@Component
+public class ChangeFeed {
+
+    public static final String CHANGE = "change";
+    public static final String RESET = "reset";
+    public static final String HEARTBEAT = "heartbeat";
+
+    private static final Marker CLOSE = new Marker("close");
+
+    private final Logger logger = LoggerFactory.getLogger(ChangeFeed.class.getName());
+
+    private final Object lock = new Object();
+
+    private final ChangeEventDTO[] ring;
+
+    private final int queueCapacity;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    private final long firstId = System.currentTimeMillis() * 1000;
+
+    private long nextId = firstId;
+
+    // Clients that resume from this id or earlier may have missed a reset and get one on reconnect.
+    private long resetBarrier = Long.MIN_VALUE;
+
+    public ChangeFeed(@Value("${app.changes.replay-capacity:10000}") int replayCapacity,
+                      @Value("${app.changes.subscriber-queue:1000}") int queueCapacity) {
+        this.ring = new ChangeEventDTO[replayCapacity];
+        this.queueCapacity = queueCapacity;
+    }
+
+    public interface Sink {
+
+        void send(String name, Long id, Object data) throws IOException;
+
+        void complete();
+    }
+
+    // AFTER_COMMIT: rolled back writes never reach subscribers. Changes made outside a transaction are published directly.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        publish(event);
+    }
+
+    ChangeEventDTO publish(EntityChangedEvent event) {
+        List<Subscription> slow = new ArrayList<>();
+        ChangeEventDTO change;
+        synchronized (lock) {
+            change = new ChangeEventDTO(nextId++, event.entity(), event.type().name(), event.id(), event.data(),
+                    Instant.now());
+            ring[(int) (change.id() % ring.length)] = change;
+            for (Subscription subscription : subscriptions) {
+                if (!subscription.offer(change)) slow.add(subscription);
+            }
+        }
+        for (Subscription subscription : slow) {
+            logger.warn("Dropping change feed subscriber after {} undelivered events", queueCapacity);
+            subscription.close();
+        }
+        return change;
+    }
+
+    public Subscription subscribe(Long lastEventId, String entity, Sink sink) {
+        Subscription subscription = new Subscription(sink, entity);
+        synchronized (lock) {
+            if (lastEventId != null) {
+                long oldest = Math.max(nextId - ring.length, firstId);
+                long missed = nextId - 1 - lastEventId;
+                if (lastEventId + 1 < oldest || missed < 0 || missed > queueCapacity || lastEventId <= resetBarrier) {
+                    subscription.signal(RESET);
+                } else {
+                    for (long id = lastEventId + 1; id < nextId; id++) {
+                        subscription.offer(ring[(int) (id % ring.length)]);
+                    }
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        Thread.ofVirtual().name("change-feed-subscriber").start(subscription::drain);
+        return subscription;
+    }
+
+    // For changes made without entity events (bulk imports): subscribers of the entity are told to
+    // reload. One too far behind to take the reset is disconnected; it reconnects from before the
+    // barrier and gets the reset then, instead of carrying on with deltas over missed bulk changes.
+    public void reset(String entity) {
+        List<Subscription> slow = new ArrayList<>();
+        synchronized (lock) {
+            resetBarrier = nextId - 1;
+            for (Subscription subscription : subscriptions) {
+                if (subscription.entity == null || subscription.entity.equalsIgnoreCase(entity)) {
+                    if (!subscription.signal(RESET)) slow.add(subscription);
+                }
+            }
+        }
+        for (Subscription subscription : slow) {
+            logger.warn("Dropping change feed subscriber that could not take a reset");
+            subscription.close();
+        }
+    }
+
+    public int subscriberCount() {
+        synchronized (lock) {
+            return subscriptions.size();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.changes.heartbeat-ms:15000}")
+    public void heartbeat() {
+        synchronized (lock) {
+            for (Subscription subscription : subscriptions) {
+                subscription.signal(HEARTBEAT);
+            }
+        }
+    }
+
+    // Streams never finish on their own; without this they would hold the graceful shutdown until its timeout.
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        List<Subscription> open;
+        synchronized (lock) {
+            open = new ArrayList<>(subscriptions);
+        }
+        open.forEach(Subscription::close);
+    }
+
+    private record Marker(String name) {
+
+    }
+
+    public final class Subscription {
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueCapacity + 1);
+
+        private final Sink sink;
+
+        private final String entity;
+
+        private volatile boolean closed;
+
+        private Subscription(Sink sink, String entity) {
+            this.sink = sink;
+            this.entity = entity;
+        }
+
+        // The extra slot is reserved for CLOSE, so a full queue never blocks shutting a subscriber down.
+        private boolean offer(ChangeEventDTO change) {
+            if (closed || (entity != null && !entity.equalsIgnoreCase(change.entity()))) return true;
+            return queue.remainingCapacity() > 1 && queue.offer(change);
+        }
+
+        // A dropped heartbeat is harmless; callers that cannot lose the signal check the result.
+        private boolean signal(String name) {
+            return queue.remainingCapacity() > 1 && queue.offer(new Marker(name));
+        }
+
+        public void close() {
+            if (closed) return;
+            closed = true;
+            queue.clear();
+            queue.offer(CLOSE);
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == CLOSE) break;
+                    if (item instanceof ChangeEventDTO change) sink.send(CHANGE, change.id(), change);
+                    else if (item instanceof Marker marker) sink.send(marker.name(), null, marker.name());
+                }
+            } catch (IOException e) {
+                logger.debug("Change feed subscriber disconnected: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closed = true;
+                synchronized (lock) {
+                    subscriptions.remove(this);
+                }
+                sink.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.app.events;
+
+public record EntityChangedEvent(String entity, Type type, Long id, Object data) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
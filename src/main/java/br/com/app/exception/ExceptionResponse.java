@@ -2,6 +2,6 @@ package br.com.app.exception;
 
 import java.util.Date;
 
-public record ExceptionResponse(Date timestamp, String message, String details) {
+public record ExceptionResponse(Date timestamp, String message, String details, String traceId) {
 
 }
@@ -2,14 +2,18 @@ package br.com.app.exception.handler;
 
 import java.util.Date;
 
+import br.com.app.exception.BadRequestException;
+import br.com.app.exception.ConflictException;
 import br.com.app.exception.RequiredObjectIsNullException;
 import br.com.app.exception.ResourceNotFoundException;
+import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import br.com.app.exception.ExceptionResponse;
@@ -23,7 +27,8 @@ public class CustomEntityResponseHandler extends ResponseEntityExceptionHandler
 		ExceptionResponse response = new ExceptionResponse(
 				new Date(),
 				ex.getMessage(),
-				request.getDescription(false));
+				request.getDescription(false),
+				MDC.get("traceId"));
 		return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 	
@@ -32,16 +37,30 @@ public class CustomEntityResponseHandler extends ResponseEntityExceptionHandler
 		ExceptionResponse response = new ExceptionResponse(
 				new Date(),
 				ex.getMessage(),
-				request.getDescription(false));
+				request.getDescription(false),
+				MDC.get("traceId"));
 		return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
 	}
 
-    @ExceptionHandler(RequiredObjectIsNullException.class)
+    // A path or query parameter that does not convert (e.g. ?ids=a) is the client's mistake, not a 500.
+    @ExceptionHandler({RequiredObjectIsNullException.class, BadRequestException.class,
+            MethodArgumentTypeMismatchException.class})
 	public final ResponseEntity<ExceptionResponse> handleBadRequestExceptions(Exception ex, WebRequest request){
 		ExceptionResponse response = new ExceptionResponse(
 				new Date(),
 				ex.getMessage(),
-				request.getDescription(false));
+				request.getDescription(false),
+				MDC.get("traceId"));
 		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 	}
+
+    @ExceptionHandler(ConflictException.class)
+	public final ResponseEntity<ExceptionResponse> handleConflictExceptions(Exception ex, WebRequest request){
+		ExceptionResponse response = new ExceptionResponse(
+				new Date(),
+				ex.getMessage(),
+				request.getDescription(false),
+				MDC.get("traceId"));
+		return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+	}
 }
@@ -0,0 +1,58 @@
+package br.com.app.lifecycle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+// Stops before every other lifecycle bean, so the shutdown order is: readiness flips to
+// REFUSING_TRAFFIC (published by Boot on context close), this bean keeps serving for the
+// readiness grace while load balancers deregister the instance, then Tomcat's graceful
+// shutdown closes the listener and waits for in-flight requests, and only after the web
+// server is gone are the task executors and Hikari pools shut down.
+public class ShutdownDrainLifecycle implements SmartLifecycle {
+
+    private final Logger logger = LoggerFactory.getLogger(ShutdownDrainLifecycle.class.getName());
+
+    private final InFlightRequestFilter requests;
+
+    private final Duration readinessGrace;
+
+    private volatile boolean running;
+
+    public ShutdownDrainLifecycle(InFlightRequestFilter requests, Duration readinessGrace) {
+        this.requests = requests;
+        this.readinessGrace = readinessGrace;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        requests.startDraining();
+        logger.info("Shutdown started with {} requests in flight, serving for another {} while readiness propagates",
+                requests.getInFlight(), readinessGrace);
+        try {
+            Thread.sleep(readinessGrace.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Handing over to the web server graceful shutdown with {} requests in flight",
+                requests.getInFlight());
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.app.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+// Caps how many INFO-and-below events each logger under the configured prefix may emit per
+// second. WARN and ERROR always pass, and disabled levels are left to the normal level check.
+// Loggers listed in exclude (comma separated, matched by prefix) are never sampled; that is
+// decided once per logger, so the hot path is a map lookup and a counter.
+public class RateSamplingTurboFilter extends TurboFilter {
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private String prefix = "br.com.app";
+
+    private int maxPerSecond = 100;
+
+    private String[] exclude = new String[0];
+
+    LongSupplier clock = System::currentTimeMillis;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(prefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.get(logger.getName());
+        if (window == null) {
+            window = windows.computeIfAbsent(logger.getName(), name -> new Window(!excluded(name)));
+        }
+        if (!window.sampled) return FilterReply.NEUTRAL;
+
+        return window.tryAcquire(clock.getAsLong() / 1000, maxPerSecond)
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+    private boolean excluded(String name) {
+        for (String excludedPrefix : exclude) {
+            if (name.startsWith(excludedPrefix)) return true;
+        }
+        return false;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setExclude(String exclude) {
+        this.exclude = Arrays.stream(exclude.split(",")).map(String::trim).filter(name -> !name.isEmpty())
+                .toArray(String[]::new);
+        windows.clear();
+    }
+
+    private static final class Window {
+
+        private final boolean sampled;
+
+        private volatile long second;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        Window(boolean sampled) {
+            this.sampled = sampled;
+        }
+
+        boolean tryAcquire(long now, int limit) {
+            if (second != now) {
+                synchronized (this) {
+                    if (second != now) {
+                        count.set(0);
+                        second = now;
+                    }
+                }
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
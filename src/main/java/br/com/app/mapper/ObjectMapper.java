@@ -6,19 +6,24 @@ import com.github.dozermapper.core.Mapper;
 import java.util.ArrayList;
 import java.util.List;
 
+import static br.com.app.metrics.PipelineMetrics.MAPPING;
+import static br.com.app.metrics.PipelineMetrics.record;
+
 public class ObjectMapper {
 
     private static Mapper mapper = DozerBeanMapperBuilder.buildDefault();
 
     public static <O, D> D parseObject(O origin, Class<D> destination){
-        return mapper.map(origin, destination);
+        return record(MAPPING, destination.getSimpleName(), () -> mapper.map(origin, destination));
     }
 
     public static <O, D> List<D> parseListObjects(List<O> origin, Class<D> destination){
-        List<D> destinationObjects = new ArrayList<D>();
-        for (Object o: origin){
-            destinationObjects.add(mapper.map(o, destination));
-        }
-        return destinationObjects;
+        return record(MAPPING, destination.getSimpleName(), () -> {
+            List<D> destinationObjects = new ArrayList<D>();
+            for (Object o: origin){
+                destinationObjects.add(mapper.map(o, destination));
+            }
+            return destinationObjects;
+        });
     }
 }
@@ -0,0 +1,80 @@
+package br.com.app.metrics;
+
+import br.com.app.data.dto.LatencyStatsDTO;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Recording goes through HdrHistogram's Recorder, which is wait-free for writers; the
+// scheduled rotation swaps out the interval histogram and folds it into the cumulative one.
+@Component
+public class LatencyHistograms {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Key, Route> routes = new ConcurrentHashMap<>();
+
+    public void record(String method, String route, int status, long elapsedNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        routes.computeIfAbsent(new Key(method, route, status / 100 + "xx"), key -> new Route())
+                .recorder.recordValue(micros);
+    }
+
+    @Scheduled(fixedRateString = "${app.stats.interval-ms:10000}")
+    public void rotate() {
+        routes.values().forEach(Route::rotate);
+    }
+
+    public List<LatencyStatsDTO> snapshot() {
+        return routes.entrySet()
+                .stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(LatencyStatsDTO::route)
+                        .thenComparing(LatencyStatsDTO::method)
+                        .thenComparing(LatencyStatsDTO::status))
+                .toList();
+    }
+
+    private record Key(String method, String route, String status) {
+
+    }
+
+    private static final class Route {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+
+        private final Histogram cumulative = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+
+        private Histogram interval;
+
+        synchronized void rotate() {
+            interval = recorder.getIntervalHistogram(interval);
+            cumulative.add(interval);
+        }
+
+        synchronized LatencyStatsDTO snapshot(Key key) {
+            return new LatencyStatsDTO(key.method(), key.route(), key.status(), window(interval), window(cumulative));
+        }
+
+        private static LatencyStatsDTO.Window window(Histogram histogram) {
+            if (histogram == null || histogram.getTotalCount() == 0) {
+                return new LatencyStatsDTO.Window(0, 0, 0, 0, 0);
+            }
+            return new LatencyStatsDTO.Window(
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.app.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class LatencyRecordingInterceptor implements HandlerInterceptor {
+
+    private static final String START = LatencyRecordingInterceptor.class.getName() + ".start";
+
+    @Autowired
+    private LatencyHistograms histograms;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START, System.nanoTime());
+        return true;
+    }
+
+    // Runs after CustomEntityResponseHandler has rendered its error body, so 4xx/5xx
+    // outcomes land in their own status class for the same route.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START) instanceof Long start) {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+            histograms.record(request.getMethod(), route == null ? "UNKNOWN" : route.toString(), status,
+                    System.nanoTime() - start);
+        }
+    }
+}
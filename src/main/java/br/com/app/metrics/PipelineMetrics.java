@@ -0,0 +1,58 @@
+package br.com.app.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.http.MediaType;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+// Each stage is recorded as an Observation, so the same call produces the app.pipeline
+// timer and, when tracing is enabled, a child span of the current request.
+public final class PipelineMetrics {
+
+    public static final String OBSERVATION_NAME = "app.pipeline";
+
+    public static final String REPOSITORY = "repository";
+    public static final String MAPPING = "mapping";
+    public static final String HATEOAS = "hateoas";
+    public static final String SERIALIZATION = "serialization";
+
+    private static final String NONE = "none";
+
+    private static volatile ObservationRegistry registry = ObservationRegistry.NOOP;
+
+    private PipelineMetrics() {}
+
+    public static void setObservationRegistry(ObservationRegistry observationRegistry) {
+        registry = observationRegistry;
+    }
+
+    public static <T> T record(String stage, String entity, Supplier<T> call) {
+        return observation(stage, entity, NONE).observe(call);
+    }
+
+    public static void record(String stage, String entity, Runnable call) {
+        observation(stage, entity, NONE).observe(call);
+    }
+
+    public static Observation start(String stage, String entity, MediaType mediaType) {
+        return observation(stage, entity, mediaType == null ? NONE : mediaType.getType() + "/" + mediaType.getSubtype())
+                .start();
+    }
+
+    public static String entityOf(Object body) {
+        if (body instanceof Collection<?> collection) {
+            return collection.isEmpty() ? NONE : entityOf(collection.iterator().next());
+        }
+        return body == null ? NONE : body.getClass().getSimpleName();
+    }
+
+    private static Observation observation(String stage, String entity, String mediaType) {
+        return Observation.createNotStarted(OBSERVATION_NAME, registry)
+                .contextualName(stage + " " + entity)
+                .lowCardinalityKeyValue("stage", stage)
+                .lowCardinalityKeyValue("entity", entity)
+                .lowCardinalityKeyValue("media_type", mediaType);
+    }
+}
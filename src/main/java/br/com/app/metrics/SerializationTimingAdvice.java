@@ -0,0 +1,45 @@
+package br.com.app.metrics;
+
+import io.micrometer.observation.Observation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Marks the moment the selected message converter is about to write the body; the
+// interceptor side closes the measurement once the response has been written.
+@ControllerAdvice
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    private static final String OBSERVATION = SerializationTimingAdvice.class.getName() + ".observation";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(OBSERVATION,
+                    PipelineMetrics.start(PipelineMetrics.SERIALIZATION, PipelineMetrics.entityOf(body), selectedContentType));
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(OBSERVATION) instanceof Observation observation) {
+            observation.stop();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.app.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.LazyGroup;
 
 import java.io.Serializable;
 import java.util.Date;
@@ -16,9 +17,13 @@ public class Book implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(nullable = false, length = 250)
     private String title;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("text")
     @Column(nullable = false, length = 180)
     private String author;
 
@@ -29,8 +34,19 @@ public class Book implements Serializable {
     @Temporal(TemporalType.DATE)
     private Date launchDate;
 
+    // Maintained here rather than by the column default so it also moves on updates; drives /changes.
+    @Column(name = "updated_at", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date updatedAt;
+
     public Book() {}
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = new Date();
+    }
+
     public Long getId() {
         return id;
     }
@@ -71,15 +87,25 @@ public class Book implements Serializable {
         this.launchDate = launchDate;
     }
 
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Identity only: comparing title/author would load the lazy "text" group of every Book touched.
     @Override
     public boolean equals(Object o) {
+        if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Book book = (Book) o;
-        return Objects.equals(getId(), book.getId()) && Objects.equals(getTitle(), book.getTitle()) && Objects.equals(getAuthor(), book.getAuthor()) && Objects.equals(getPrice(), book.getPrice()) && Objects.equals(getLaunchDate(), book.getLaunchDate());
+        return getId() != null && Objects.equals(getId(), book.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getTitle(), getAuthor(), getPrice(), getLaunchDate());
+        return getClass().hashCode();
     }
 }
@@ -3,6 +3,7 @@ package br.com.app.model;
 import jakarta.persistence.*;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.Objects;
 
 @Entity
@@ -27,8 +28,19 @@ public class Person implements Serializable {
     @Column(nullable = false, length = 6)
     private String gender;
 
+    // Maintained here rather than by the column default so it also moves on updates; drives /changes.
+    @Column(name = "updated_at", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date updatedAt;
+
     public Person() {}
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = new Date();
+    }
+
     public Long getId() {
         return id;
     }
@@ -69,6 +81,14 @@ public class Person implements Serializable {
         this.gender = gender;
     }
 
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Person person)) return false;
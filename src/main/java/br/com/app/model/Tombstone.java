@@ -0,0 +1,51 @@
+package br.com.app.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Date;
+
+@Entity
+@Table(name = "tombstones")
+public class Tombstone implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String entity;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date deletedAt;
+
+    public Tombstone() {}
+
+    public Tombstone(String entity, Long entityId, Date deletedAt) {
+        this.entity = entity;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Date getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -1,7 +1,36 @@
 package br.com.app.repository;
 
+import br.com.app.data.dto.BookDTO;
 import br.com.app.model.Book;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
+
+    @Query("SELECT new br.com.app.data.dto.BookDTO(b.id, b.title, b.author, b.price, b.launchDate) FROM Book b")
+    List<BookDTO> findAllAsDTO();
+
+    @Query("SELECT new br.com.app.data.dto.BookDTO(b.id, b.title, b.author, b.price, b.launchDate) FROM Book b WHERE b.id = :id")
+    Optional<BookDTO> findDTOById(@Param("id") Long id);
+
+    @Query("SELECT new br.com.app.data.dto.BookDTO(b.id, b.title, b.author, b.price, b.launchDate) FROM Book b WHERE b.id IN :ids")
+    List<BookDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset over (updated_at, id), served by idx_books_updated_at.
+    @Query("SELECT new br.com.app.data.dto.BookDTO(b.id, b.title, b.author, b.price, b.launchDate, b.updatedAt) FROM Book b " +
+            "WHERE b.updatedAt <= :until AND (b.updatedAt > :since OR (b.updatedAt = :since AND b.id > :id)) " +
+            "ORDER BY b.updatedAt, b.id")
+    List<BookDTO> findChangedSince(@Param("since") Date since, @Param("id") Long id, @Param("until") Date until, Limit limit);
+
+    // Keyset over the primary key; full exports page through the table with it.
+    @Query("SELECT new br.com.app.data.dto.BookDTO(b.id, b.title, b.author, b.price, b.launchDate, b.updatedAt) FROM Book b " +
+            "WHERE b.id > :id ORDER BY b.id")
+    List<BookDTO> findPageAfter(@Param("id") Long id, Limit limit);
 }
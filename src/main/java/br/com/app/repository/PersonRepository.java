@@ -1,7 +1,36 @@
 package br.com.app.repository;
 
+import br.com.app.data.dto.PersonDTO;
 import br.com.app.model.Person;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 public interface PersonRepository extends JpaRepository<Person, Long> {
+
+    @Query("SELECT new br.com.app.data.dto.PersonDTO(p.id, p.firstName, p.lastName, p.address, p.gender) FROM Person p")
+    List<PersonDTO> findAllAsDTO();
+
+    @Query("SELECT new br.com.app.data.dto.PersonDTO(p.id, p.firstName, p.lastName, p.address, p.gender) FROM Person p WHERE p.id = :id")
+    Optional<PersonDTO> findDTOById(@Param("id") Long id);
+
+    @Query("SELECT new br.com.app.data.dto.PersonDTO(p.id, p.firstName, p.lastName, p.address, p.gender) FROM Person p WHERE p.id IN :ids")
+    List<PersonDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset over (updated_at, id), served by idx_person_updated_at.
+    @Query("SELECT new br.com.app.data.dto.PersonDTO(p.id, p.firstName, p.lastName, p.address, p.gender, p.updatedAt) FROM Person p " +
+            "WHERE p.updatedAt <= :until AND (p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :id)) " +
+            "ORDER BY p.updatedAt, p.id")
+    List<PersonDTO> findChangedSince(@Param("since") Date since, @Param("id") Long id, @Param("until") Date until, Limit limit);
+
+    // Keyset over the primary key; full exports page through the table with it.
+    @Query("SELECT new br.com.app.data.dto.PersonDTO(p.id, p.firstName, p.lastName, p.address, p.gender, p.updatedAt) FROM Person p " +
+            "WHERE p.id > :id ORDER BY p.id")
+    List<PersonDTO> findPageAfter(@Param("id") Long id, Limit limit);
 }
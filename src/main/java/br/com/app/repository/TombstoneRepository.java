@@ -0,0 +1,23 @@
+package br.com.app.repository;
+
+import br.com.app.model.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("SELECT t FROM Tombstone t WHERE t.entity = :entity AND t.deletedAt <= :until " +
+            "AND (t.deletedAt > :since OR (t.deletedAt = :since AND t.id > :id)) ORDER BY t.deletedAt, t.id")
+    List<Tombstone> findDeletedSince(@Param("entity") String entity, @Param("since") Date since, @Param("id") Long id,
+                                     @Param("until") Date until, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Date before);
+}
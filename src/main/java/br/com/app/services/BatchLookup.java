@@ -0,0 +1,70 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.exception.BadRequestException;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+// Resolves an id list with as few round trips as possible: cache hits first, then one IN query
+// per CHUNK_SIZE misses. Results keep the request order (duplicates collapsed) and unknown ids
+// are reported instead of failing the whole lookup.
+final class BatchLookup {
+
+    static final int MAX_IDS = 1000;
+
+    // Keeps each statement well under driver/database bind-parameter limits; together with
+    // hibernate.query.in_clause_parameter_padding it also bounds the number of distinct SQL shapes.
+    static final int CHUNK_SIZE = 500;
+
+    private BatchLookup() {
+
+    }
+
+    static <T> BatchLookupDTO<T> lookup(List<Long> ids, Cache cache, Function<List<Long>, List<T>> loader,
+                                        Function<T, Long> idOf, UnaryOperator<T> copy) {
+        if (ids == null || ids.isEmpty()) throw new BadRequestException("At least one id is required!");
+
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (requested.size() > MAX_IDS) {
+            throw new BadRequestException("At most " + MAX_IDS + " ids are allowed per request!");
+        }
+
+        Map<Long, T> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : requested) {
+            T cached = cache != null ? cachedValue(cache, id) : null;
+            if (cached != null) found.put(id, copy.apply(cached));
+            else misses.add(id);
+        }
+
+        for (int from = 0; from < misses.size(); from += CHUNK_SIZE) {
+            for (T item : loader.apply(misses.subList(from, Math.min(from + CHUNK_SIZE, misses.size())))) {
+                // Cached and returned instances are separate, so links added to the response never reach the cache.
+                if (cache != null) cache.put(idOf.apply(item), copy.apply(item));
+                found.put(idOf.apply(item), item);
+            }
+        }
+
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            T item = found.get(id);
+            if (item != null) items.add(item);
+            else missing.add(id);
+        }
+        return new BatchLookupDTO<>(items, missing);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cachedValue(Cache cache, Long id) {
+        Cache.ValueWrapper wrapper = cache.get(id);
+        return wrapper != null ? (T) wrapper.get() : null;
+    }
+}
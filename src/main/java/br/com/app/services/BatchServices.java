@@ -0,0 +1,214 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BatchRequestDTO;
+import br.com.app.data.dto.BatchRequestDTO.Operation;
+import br.com.app.data.dto.BatchResponseDTO;
+import br.com.app.data.dto.BatchResponseDTO.Result;
+import br.com.app.data.dto.BookDTO;
+import br.com.app.data.dto.PersonDTO;
+import br.com.app.exception.BadRequestException;
+import br.com.app.exception.RequiredObjectIsNullException;
+import br.com.app.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Dispatches batch operations straight to the services instead of re-entering the servlet stack,
+// so a sub-request costs a service call, not an HTTP round trip.
+@Service
+public class BatchServices {
+
+    private static final Pattern PATH = Pattern.compile("^/api/(book|person)/v1(?:/(\\d+))?/?$");
+
+    @Autowired
+    BookServices bookServices;
+
+    @Autowired
+    PersonServices personServices;
+
+    @Autowired
+    ObjectMapper json;
+
+    @Autowired
+    @Qualifier("batchExecutor")
+    AsyncTaskExecutor executor;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Value("${app.batch.max-operations:50}")
+    int maxOperations;
+
+    @Value("${app.batch.timeout:30s}")
+    Duration timeout;
+
+    private Logger logger = LoggerFactory.getLogger(BatchServices.class.getName());
+
+    public BatchResponseDTO execute(BatchRequestDTO request) {
+        if (request == null || request.operations() == null || request.operations().isEmpty()) {
+            throw new BadRequestException("A batch needs at least one operation!");
+        }
+        if (request.operations().size() > maxOperations) {
+            throw new BadRequestException("At most " + maxOperations + " operations are allowed per batch!");
+        }
+
+        String mode = request.mode() == null ? "parallel" : request.mode().toLowerCase(Locale.ROOT);
+        logger.debug("Executing a {} batch of {} operations", mode, request.operations().size());
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        return switch (mode) {
+            case "parallel" -> new BatchResponseDTO(false, parallel(request.operations(), deadline));
+            case "sequential" -> new BatchResponseDTO(false, sequential(request.operations(), deadline));
+            case "transactional" -> transactional(request.operations(), deadline);
+            default -> throw new BadRequestException("Unknown batch mode " + request.mode() + "!");
+        };
+    }
+
+    // The deadline is cooperative: an operation that has not started when it passes is skipped and
+    // reported as 504, while one already running is waited for and reports its real outcome. A
+    // write is never reported as timed out and then committed, and no worker outlives the request
+    // whose attributes it uses for links.
+    private List<Result> parallel(List<Operation> operations, long deadline) {
+        List<Attempt> attempts = operations.stream().map(operation -> {
+            Attempt attempt = new Attempt();
+            attempt.future = CompletableFuture.supplyAsync(
+                    () -> attempt.start(deadline) ? dispatch(operation) : notStarted(), executor);
+            return attempt;
+        }).toList();
+
+        List<Result> results = new ArrayList<>(attempts.size());
+        for (Attempt attempt : attempts) {
+            try {
+                results.add(attempt.future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                results.add(attempt.abandon() ? notStarted() : attempt.future.join());
+            } catch (ExecutionException e) {
+                results.add(new Result(500, e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(attempt.abandon() ? new Result(503, "Batch interrupted") : attempt.future.join());
+            }
+        }
+        return results;
+    }
+
+    private List<Result> sequential(List<Operation> operations, long deadline) {
+        List<Result> results = new ArrayList<>(operations.size());
+        for (Operation operation : operations) {
+            results.add(System.nanoTime() < deadline ? dispatch(operation) : notStarted());
+        }
+        return results;
+    }
+
+    // The transaction times out with the batch, so statements issued past it fail and roll it back;
+    // delta sync relies on no write transaction outliving app.batch.timeout (see SyncServices).
+    private BatchResponseDTO transactional(List<Operation> operations, long deadline) {
+        List<Result> results = new ArrayList<>(operations.size());
+        TransactionTemplate bounded = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        bounded.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        boolean rolledBack = Boolean.TRUE.equals(bounded.execute(status -> {
+            for (Operation operation : operations) {
+                if (status.isRollbackOnly()) {
+                    results.add(new Result(424, "Not executed, an earlier operation failed"));
+                    continue;
+                }
+                Result result = System.nanoTime() < deadline ? dispatch(operation) : notStarted();
+                results.add(result);
+                if (result.status() >= 400) status.setRollbackOnly();
+            }
+            return status.isRollbackOnly();
+        }));
+        return new BatchResponseDTO(rolledBack, results);
+    }
+
+    private Result notStarted() {
+        return new Result(504, "Not executed, the batch did not reach it within " + timeout);
+    }
+
+    // Decides, once, whether an operation runs or is given up on at the deadline.
+    private static final class Attempt {
+
+        private static final int PENDING = 0, STARTED = 1, ABANDONED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private CompletableFuture<Result> future;
+
+        // Queued work that only reaches a thread after the deadline does not start either.
+        boolean start(long deadline) {
+            return System.nanoTime() < deadline && state.compareAndSet(PENDING, STARTED);
+        }
+
+        boolean abandon() {
+            return state.compareAndSet(PENDING, ABANDONED);
+        }
+    }
+
+    Result dispatch(Operation operation) {
+        try {
+            return invoke(operation);
+        } catch (ResourceNotFoundException e) {
+            return new Result(404, e.getMessage());
+        } catch (RequiredObjectIsNullException | BadRequestException | IllegalArgumentException e) {
+            return new Result(400, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Batch operation {} {} failed", operation.method(), operation.path(), e);
+            return new Result(500, e.getMessage());
+        }
+    }
+
+    private Result invoke(Operation operation) {
+        Matcher matcher = PATH.matcher(operation.path() == null ? "" : operation.path());
+        if (!matcher.matches()) return new Result(404, "No route for " + operation.path());
+
+        boolean book = matcher.group(1).equals("book");
+        Long id = matcher.group(2) != null ? Long.valueOf(matcher.group(2)) : null;
+        String method = operation.method() == null ? "GET" : operation.method().toUpperCase(Locale.ROOT);
+
+        if (method.equals("GET") && id == null) {
+            return new Result(200, book ? bookServices.findAll() : personServices.findAll());
+        }
+        if (method.equals("GET")) {
+            return new Result(200, book ? bookServices.findById(id) : personServices.findById(id));
+        }
+        if (method.equals("POST") && id == null) {
+            return new Result(200, book
+                    ? bookServices.create(body(operation.body(), BookDTO.class))
+                    : personServices.create(body(operation.body(), PersonDTO.class)));
+        }
+        if (method.equals("PUT") && id == null) {
+            return new Result(200, book
+                    ? bookServices.update(body(operation.body(), BookDTO.class))
+                    : personServices.update(body(operation.body(), PersonDTO.class)));
+        }
+        if (method.equals("DELETE") && id != null) {
+            if (book) bookServices.delete(id);
+            else personServices.delete(id);
+            return new Result(204, null);
+        }
+        return new Result(405, method + " is not supported on " + operation.path());
+    }
+
+    private <T> T body(JsonNode body, Class<T> type) {
+        return body == null || body.isNull() ? null : json.convertValue(body, type);
+    }
+}
@@ -1,105 +1,197 @@
 package br.com.app.services;
 
 import br.com.app.controllers.BookController;
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.ChangeSetDTO;
 import br.com.app.data.dto.BookDTO;
+import br.com.app.events.EntityChangedEvent;
 import br.com.app.exception.RequiredObjectIsNullException;
 import br.com.app.exception.ResourceNotFoundException;
 import br.com.app.model.Book;
 import br.com.app.repository.BookRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
-import static br.com.app.mapper.ObjectMapper.parseListObjects;
 import static br.com.app.mapper.ObjectMapper.parseObject;
+import static br.com.app.metrics.PipelineMetrics.HATEOAS;
+import static br.com.app.metrics.PipelineMetrics.REPOSITORY;
+import static br.com.app.metrics.PipelineMetrics.record;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
+@Observed(name = "app.service")
+@Transactional(readOnly = true)
 public class BookServices {
 
+    private static final String CACHE = "books";
+
     private final AtomicLong counter = new AtomicLong();
 
     @Autowired
     BookRepository repository;
 
+    // Only present when caching is enabled (spring-boot-starter-cache + @EnableCaching); lookups go straight to the DB otherwise.
+    @Autowired(required = false)
+    CacheManager cacheManager;
+
+    @Autowired
+    ApplicationEventPublisher publisher;
+
+    @Autowired
+    SyncServices sync;
+
     private Logger logger = LoggerFactory.getLogger(BookServices.class.getName());
 
     public List<BookDTO> findAll() {
-        logger.info("Finding all BookDTO!");
+        logger.debug("Finding all BookDTO!");
 
-        var books = parseListObjects(repository.findAll(), BookDTO.class);
+        var books = record(REPOSITORY, "Book", () -> repository.findAllAsDTO());
         books.forEach(this::addHateoasLinks);
 
         return books;
     }
 
     public BookDTO findById(Long id){
-        logger.info("Finding one Book!");
+        logger.debug("Finding one Book!");
 
-        var entity = repository.findById(id)
+        var dto = record(REPOSITORY, "Book", () -> repository.findDTOById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("No found records for this ID!"));
 
-        var dto = parseObject(entity, BookDTO.class);
         addHateoasLinks(dto);
 
         return dto;
     }
 
+    public BatchLookupDTO<BookDTO> findByIds(List<Long> ids) {
+        logger.debug("Finding {} Books by id!", ids == null ? 0 : ids.size());
+
+        var result = BatchLookup.lookup(ids, cache(),
+                chunk -> record(REPOSITORY, "Book", () -> repository.findDTOsByIdIn(chunk)),
+                BookDTO::getId, BookServices::copy);
+        result.items().forEach(this::addHateoasLinks);
+
+        return result;
+    }
+
+    // Read-write on purpose so the routing keeps it on the primary, see SyncServices.
+    @Transactional
+    public ChangeSetDTO<BookDTO> findChanges(String since) {
+        logger.debug("Finding Book changes!");
+
+        var changes = sync.changesSince("book", since, BookDTO::getUpdatedAt, BookDTO::getId,
+                (from, id, until, limit) -> record(REPOSITORY, "Book", () -> repository.findChangedSince(from, id, until, limit)));
+        changes.upserts().forEach(this::addHateoasLinks);
+
+        return changes;
+    }
+
+    @Transactional
     public BookDTO create(BookDTO book){
 
         if (book == null) throw new RequiredObjectIsNullException();
 
-        logger.info("Creating one Book!");
+        logger.debug("Creating one Book!");
 
         var entity = parseObject(book, Book.class);
 
-        logger.info("DATA " + book.getLaunchDate());
+        logger.debug("DATA {}", book.getLaunchDate());
 
-        var dto = parseObject(repository.save(entity), BookDTO.class);
+        var dto = parseObject(record(REPOSITORY, "Book", () -> repository.save(entity)), BookDTO.class);
+        publish(EntityChangedEvent.Type.CREATED, dto);
         addHateoasLinks(dto);
 
         return dto;
     }
 
+    @Transactional
     public BookDTO update(BookDTO book){
 
         if (book == null) throw new RequiredObjectIsNullException();
 
-        logger.info("Updating one Book!");
+        logger.debug("Updating one Book!");
 
-        Book entity = repository.findById(book.getId())
+        Book entity = record(REPOSITORY, "Book", () -> repository.findById(book.getId()))
                 .orElseThrow(() -> new ResourceNotFoundException("No found records for this ID!"));
 
         entity.setTitle(book.getTitle());
         entity.setAuthor(book.getAuthor());
         entity.setPrice(book.getPrice());
         entity.setLaunchDate(book.getLaunchDate());
-
-        var dto = parseObject(repository.save(entity), BookDTO.class);
+        record(REPOSITORY, "Book", () -> repository.save(entity));
+
+        // Built from the request rather than read back through the entity's getters, which would
+        // load the lazy "text" group only to return the values that were just written.
+        var dto = new BookDTO(entity.getId(), book.getTitle(), book.getAuthor(), book.getPrice(),
+                book.getLaunchDate(), entity.getUpdatedAt());
+        evict(dto.getId());
+        publish(EntityChangedEvent.Type.UPDATED, dto);
         addHateoasLinks(dto);
 
         return dto;
     }
 
+    @Transactional
     public void delete(Long id){
-        logger.info("Deleting one Book!");
+        logger.debug("Deleting one Book!");
 
-        Book entity = repository.findById(id)
+        Book entity = record(REPOSITORY, "Book", () -> repository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("No found records for this ID!"));
 
-        repository.delete(entity);
+        record(REPOSITORY, "Book", () -> repository.delete(entity));
+        evict(id);
+        sync.markDeleted("book", id);
+        publisher.publishEvent(new EntityChangedEvent("book", EntityChangedEvent.Type.DELETED, id, null));
+    }
+
+    private Cache cache() {
+        return cacheManager != null ? cacheManager.getCache(CACHE) : null;
+    }
+
+    // Evicting before commit would let a concurrent lookup cache the old row again until the entry expires.
+    private void evict(Long id) {
+        Cache cache = cache();
+        if (cache == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(id);
+            }
+        });
+    }
+
+    // Subscribers get a link-free copy; links are added to the response DTO afterwards.
+    private void publish(EntityChangedEvent.Type type, BookDTO dto) {
+        publisher.publishEvent(new EntityChangedEvent("book", type, dto.getId(), copy(dto)));
+    }
+
+    private static BookDTO copy(BookDTO dto) {
+        return new BookDTO(dto.getId(), dto.getTitle(), dto.getAuthor(), dto.getPrice(), dto.getLaunchDate(), dto.getUpdatedAt());
     }
 
     private void addHateoasLinks(BookDTO dto) {
-        dto.add(linkTo(methodOn(BookController.class).findById(dto.getId())).withSelfRel().withType("GET"));
-        dto.add(linkTo(methodOn(BookController.class).findAll()).withRel("findAll").withType("GET"));
-        dto.add(linkTo(methodOn(BookController.class).create(dto)).withRel("create").withType("POST"));
-        dto.add(linkTo(methodOn(BookController.class).update(dto)).withRel("update").withType("PUT"));
-        dto.add(linkTo(methodOn(BookController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        record(HATEOAS, "Book", () -> {
+            dto.add(linkTo(methodOn(BookController.class).findById(dto.getId())).withSelfRel().withType("GET"));
+            dto.add(linkTo(methodOn(BookController.class).findAll()).withRel("findAll").withType("GET"));
+            dto.add(linkTo(methodOn(BookController.class).create(dto)).withRel("create").withType("POST"));
+            dto.add(linkTo(methodOn(BookController.class).update(dto)).withRel("update").withType("PUT"));
+            dto.add(linkTo(methodOn(BookController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        });
     }
 }
@@ -0,0 +1,89 @@
+package br.com.app.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Incremental RFC 4180 reader: one record per call, quoted fields may hold commas, doubled quotes
+// and line breaks. Only the current record is held in memory, and at most maxRecordChars of it.
+class CsvReader {
+
+    private final Reader in;
+
+    private final int maxRecordChars;
+
+    private final StringBuilder field = new StringBuilder();
+
+    private int pending = -2;
+
+    CsvReader(Reader in, int maxRecordChars) {
+        this.in = in;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    // Returns null at the end of input. A record that is malformed or too long outside quotes is
+    // skipped up to the next line break and reported as an IllegalArgumentException. One that grows
+    // too long inside a quoted field has no recognisable end, so it is an IllegalStateException and
+    // the rest of the input cannot be read.
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        int length = 0;
+        boolean quoted = false;
+        while (true) {
+            if (++length > maxRecordChars) {
+                if (quoted) throw new IllegalStateException("Quoted field longer than " + maxRecordChars + " characters");
+                skipLine(c);
+                throw new IllegalArgumentException("Record longer than " + maxRecordChars + " characters");
+            }
+            if (quoted) {
+                if (c == -1) throw new IllegalArgumentException("Unterminated quoted field");
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') pending = following;
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void skipLine(int c) throws IOException {
+        field.setLength(0);
+        while (c != '\n' && c != -1) c = read();
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return in.read();
+    }
+}
@@ -0,0 +1,316 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BookDTO;
+import br.com.app.data.dto.PersonDTO;
+import br.com.app.events.EntityChangedEvent;
+import br.com.app.exception.ResourceNotFoundException;
+import br.com.app.repository.BookRepository;
+import br.com.app.repository.PersonRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static br.com.app.metrics.PipelineMetrics.REPOSITORY;
+import static br.com.app.metrics.PipelineMetrics.record;
+
+// Full CSV/JSON dumps of each entity, regenerated on disk once writes settle so downloads never
+// touch the database.
+//
+// A change marks its entity pending; the export runs when no change arrived for settle, or at
+// the latest max-delay after the first pending change so a steady write stream cannot starve
+// it. Each export pages through the table by primary key inside one transaction (a consistent
+// snapshot) and streams rows straight into the files. The transaction is deliberately not
+// read-only, which keeps it on the primary: changes are marked after the primary commits, and a
+// lagging replica would produce a snapshot missing the very write that triggered it, served
+// until the next one. Every generation gets its own file name and the previous generation is kept
+// until the next one replaces it, so a download that already opened a file is never cut short.
+@Service
+public class ExportServices {
+
+    public enum Format {
+        CSV("csv", "text/csv"),
+        JSON("json", "application/json");
+
+        private final String extension;
+
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    public record Snapshot(String entity, Format format, Path path, long length, long generation) {
+
+        public String etag() {
+            return "\"" + entity + "-" + generation + "\"";
+        }
+
+        public String fileName() {
+            return entity + "." + format.getExtension();
+        }
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {}
+
+    private record Pending(long first, long last) {}
+
+    private static final List<Column<BookDTO>> BOOK_COLUMNS = List.of(
+            new Column<>("id", BookDTO::getId),
+            new Column<>("title", BookDTO::getTitle),
+            new Column<>("author", BookDTO::getAuthor),
+            new Column<>("price", BookDTO::getPrice),
+            new Column<>("launchDate", BookDTO::getLaunchDate),
+            new Column<>("updatedAt", BookDTO::getUpdatedAt));
+
+    private static final List<Column<PersonDTO>> PERSON_COLUMNS = List.of(
+            new Column<>("id", PersonDTO::getId),
+            new Column<>("firstName", PersonDTO::getFirstName),
+            new Column<>("lastName", PersonDTO::getLastName),
+            new Column<>("address", PersonDTO::getAddress),
+            new Column<>("gender", PersonDTO::getGender),
+            new Column<>("updatedAt", PersonDTO::getUpdatedAt));
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    ObjectMapper json;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("exportExecutor")
+    TaskExecutor exportExecutor;
+
+    @Value("${app.export.directory:target/exports}")
+    Path directory;
+
+    @Value("${app.export.page-size:1000}")
+    int pageSize;
+
+    @Value("${app.export.settle:10s}")
+    Duration settle;
+
+    @Value("${app.export.max-delay:5m}")
+    Duration maxDelay;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean exporting = new AtomicBoolean();
+
+    // Both entities start pending so the first check after startup writes the initial snapshots.
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>(Map.of(
+            "book", new Pending(0, 0),
+            "person", new Pending(0, 0)));
+
+    private Logger logger = LoggerFactory.getLogger(ExportServices.class.getName());
+
+    public Snapshot findSnapshot(String entity, String format) {
+        Format parsed;
+        try {
+            parsed = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("No export available in this format!");
+        }
+        Snapshot snapshot = snapshots.get(key(entity, parsed));
+        if (snapshot == null) throw new ResourceNotFoundException("No export available for this entity yet!");
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        markStale(event.entity());
+    }
+
+    // Also called directly by writers that bypass the entity events, such as bulk imports.
+    public void markStale(String entity) {
+        long now = System.currentTimeMillis();
+        pending.merge(entity, new Pending(now, now), (old, current) -> new Pending(old.first(), now));
+    }
+
+    // Exports can take minutes on a large table, so they run on their own thread instead of holding
+    // the shared scheduler (histogram rotation, change feed heartbeats, tombstone purge). The check
+    // only hands work over when no export is already running.
+    @Scheduled(fixedDelayString = "${app.export.check-ms:1000}")
+    public void refresh() {
+        if (!exporting.compareAndSet(false, true)) return;
+        try {
+            exportExecutor.execute(() -> {
+                try {
+                    exportSettled();
+                } finally {
+                    exporting.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            exporting.set(false);
+            throw e;
+        }
+    }
+
+    private void exportSettled() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            Pending marker = entry.getValue();
+            if (now - marker.last() < settle.toMillis() && now - marker.first() < maxDelay.toMillis()) continue;
+
+            // Changes arriving while the export runs put a new marker and trigger the next one.
+            if (!pending.remove(entry.getKey(), marker)) continue;
+            try {
+                export(entry.getKey());
+            } catch (RuntimeException e) {
+                logger.warn("Export of {} failed, retrying on the next check", entry.getKey(), e);
+                pending.merge(entry.getKey(), marker, (current, failed) -> current);
+            }
+        }
+    }
+
+    void export(String entity) {
+        long started = System.nanoTime();
+        long generation = System.currentTimeMillis();
+        long rows = switch (entity) {
+            case "book" -> write(entity, generation, BOOK_COLUMNS, BookDTO::getId,
+                    id -> record(REPOSITORY, "Book", () -> bookRepository.findPageAfter(id, Limit.of(pageSize))));
+            case "person" -> write(entity, generation, PERSON_COLUMNS, PersonDTO::getId,
+                    id -> record(REPOSITORY, "Person", () -> personRepository.findPageAfter(id, Limit.of(pageSize))));
+            default -> throw new IllegalArgumentException("Unknown export entity " + entity);
+        };
+        logger.info("Exported {} {} rows in {} ms", rows, entity, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private <T> long write(String entity, long generation, List<Column<T>> columns, Function<T, Long> idOf,
+                           Function<Long, List<T>> pageAfter) {
+        try {
+            Files.createDirectories(directory);
+            Path csv = Files.createTempFile(directory, entity, ".csv.tmp");
+            Path jsonFile = Files.createTempFile(directory, entity, ".json.tmp");
+            try {
+                long rows;
+                try (BufferedWriter csvOut = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+                     OutputStream jsonOut = Files.newOutputStream(jsonFile);
+                     JsonGenerator generator = json.getFactory().createGenerator(jsonOut)) {
+                    csvOut.write(String.join(",", columns.stream().map(Column::name).toList()));
+                    csvOut.newLine();
+                    generator.writeStartArray();
+
+                    TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+                    rows = snapshot.execute(status -> {
+                        long count = 0;
+                        Long lastId = 0L;
+                        List<T> page;
+                        do {
+                            page = pageAfter.apply(lastId);
+                            for (T row : page) {
+                                writeRow(columns, row, csvOut, generator);
+                            }
+                            count += page.size();
+                            if (!page.isEmpty()) lastId = idOf.apply(page.get(page.size() - 1));
+                        } while (page.size() == pageSize);
+                        return count;
+                    });
+
+                    generator.writeEndArray();
+                }
+                publish(entity, Format.CSV, generation, csv);
+                publish(entity, Format.JSON, generation, jsonFile);
+                return rows;
+            } finally {
+                Files.deleteIfExists(csv);
+                Files.deleteIfExists(jsonFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> void writeRow(List<Column<T>> columns, T row, BufferedWriter csv, JsonGenerator generator) {
+        try {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                Column<T> column = columns.get(i);
+                Object value = column.value().apply(row);
+                if (i > 0) csv.write(',');
+                csv.write(csvValue(value));
+                generator.writeObjectField(column.name(), value);
+            }
+            generator.writeEndObject();
+            csv.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String csvValue(Object value) {
+        if (value == null) return "";
+        String text = value instanceof Date date ? date.toInstant().toString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    // Moves the finished file into place, then drops every older generation except the one it replaced.
+    private void publish(String entity, Format format, long generation, Path temp) throws IOException {
+        Path target = directory.resolve(entity + "-" + generation + "." + format.getExtension());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        Snapshot previous = snapshots.put(key(entity, format),
+                new Snapshot(entity, format, target, Files.size(target), generation));
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, entity + "-*." + format.getExtension())) {
+            for (Path file : files) {
+                if (file.equals(target) || (previous != null && file.equals(previous.path()))) continue;
+                Files.deleteIfExists(file);
+            }
+        }
+        logger.debug("Published {} at {}", target.getFileName(), Instant.ofEpochMilli(generation));
+    }
+
+    private static String key(String entity, Format format) {
+        return entity + "." + format.getExtension();
+    }
+}
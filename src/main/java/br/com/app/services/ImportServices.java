@@ -0,0 +1,388 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.ImportJobDTO;
+import br.com.app.events.ChangeFeed;
+import br.com.app.exception.BadRequestException;
+import br.com.app.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Bulk import from a streamed CSV (header row required) or NDJSON upload.
+//
+// The body is parsed one row at a time and valid rows are written with JDBC batch inserts, one
+// transaction per batch-size rows, so memory stays at one batch whatever the upload size. Going
+// through JDBC rather than JPA matters here: IDENTITY ids make Hibernate insert row by row. An
+// id column in the input is ignored. Invalid rows are counted and reported without stopping the
+// import; a database error stops it, keeping the batches already committed. Running and recent
+// jobs can be polled while the upload is in progress.
+@Service
+public class ImportServices {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private record Target(String sql, Function<Map<String, String>, Object[]> mapper) {}
+
+    // The last parameter of every insert is updated_at, bound at flush time (see flush).
+    private static final Map<String, Target> TARGETS = Map.of(
+            "book", new Target("INSERT INTO books (title, author, price, launch_date, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    row -> new Object[] {
+                            required(row, "title", Integer.MAX_VALUE),
+                            required(row, "author", Integer.MAX_VALUE),
+                            price(required(row, "price", 64)),
+                            timestamp(required(row, "launchDate", 64)),
+                            null}),
+            "person", new Target("INSERT INTO person (first_name, last_name, address, gender, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    row -> new Object[] {
+                            required(row, "firstName", 80),
+                            required(row, "lastName", 80),
+                            required(row, "address", 100),
+                            required(row, "gender", 6),
+                            null}));
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ObjectMapper json;
+
+    @Autowired
+    ExportServices exports;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Value("${app.import.batch-size:1000}")
+    int batchSize;
+
+    @Value("${app.import.max-errors:1000}")
+    int maxErrors;
+
+    @Value("${app.import.retained-jobs:20}")
+    int retainedJobs;
+
+    // Longest CSV record or NDJSON line accepted, counted in characters.
+    @Value("${app.import.max-row-bytes:1048576}")
+    int maxRowBytes;
+
+    private final AtomicLong jobIds = new AtomicLong();
+
+    private final NavigableMap<Long, Job> jobs = new ConcurrentSkipListMap<>();
+
+    private Logger logger = LoggerFactory.getLogger(ImportServices.class.getName());
+
+    public ImportJobDTO importRows(String entity, String contentType, InputStream body) {
+        Target target = TARGETS.get(entity);
+        if (target == null) throw new ResourceNotFoundException("No import available for this entity!");
+        // The controller's consumes already answers other types with 415; this covers direct callers.
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new BadRequestException("Content-Type must be text/csv or application/x-ndjson!");
+        }
+        boolean csv = TEXT_CSV.includes(mediaType);
+        if (!csv && !APPLICATION_NDJSON.includes(mediaType)) {
+            throw new BadRequestException("Content-Type must be text/csv or application/x-ndjson!");
+        }
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+
+        Job job = start(entity);
+        logger.info("Import job {} started for {}", job.id, entity);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset), 64 * 1024)) {
+            RowSource source = csv ? csvSource(reader, maxRowBytes) : ndjsonSource(reader, maxRowBytes);
+            Map<String, String> row;
+            while ((row = source.next(job)) != null) {
+                if (row.isEmpty()) continue;
+                try {
+                    batch.add(target.mapper().apply(row));
+                } catch (IllegalArgumentException e) {
+                    job.fail(e.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) flush(transaction, target, batch, job);
+            }
+            flush(transaction, target, batch, job);
+            job.finish("COMPLETED", null);
+        } catch (IOException e) {
+            job.finish("FAILED", "Upload interrupted: " + e.getMessage());
+        } catch (IllegalStateException e) {
+            job.finish("FAILED", e.getMessage() + ", the rest of the upload has no record boundary to resume from");
+        } catch (DataAccessException e) {
+            job.finish("FAILED", "Database error, the last " + batch.size() + " rows were not imported: "
+                    + e.getMostSpecificCause().getMessage());
+        } catch (RuntimeException e) {
+            // Anything else (e.g. no transaction could be opened) still ends the job; a RUNNING job is never evicted.
+            job.finish("FAILED", e.getMessage());
+            logger.warn("Import job {} failed", job.id, e);
+            throw e;
+        } finally {
+            // Imported rows never went through the entity events; stream subscribers are told to reload instead.
+            if (job.imported.get() > 0) {
+                exports.markStale(entity);
+                changeFeed.reset(entity);
+            }
+        }
+
+        logger.info("Import job {} {}: {} rows imported, {} failed", job.id, job.status, job.imported, job.failed);
+        return job.toDTO();
+    }
+
+    public ImportJobDTO findJob(Long id) {
+        Job job = jobs.get(id);
+        if (job == null) throw new ResourceNotFoundException("No found import job for this ID!");
+        return job.toDTO();
+    }
+
+    public List<ImportJobDTO> findJobs() {
+        return jobs.descendingMap().values().stream().map(Job::toDTO).toList();
+    }
+
+    // updated_at comes from the application clock, like the entities' own stamps: delta sync bounds
+    // its reads with this clock, and the database's could lag it by more than the safety window.
+    private void flush(TransactionTemplate transaction, Target target, List<Object[]> batch, Job job) {
+        if (batch.isEmpty()) return;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (Object[] row : batch) {
+            row[row.length - 1] = now;
+        }
+        transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(target.sql(), batch));
+        job.imported.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    private Job start(String entity) {
+        Job job = new Job(jobIds.incrementAndGet(), entity, maxErrors);
+        jobs.put(job.id, job);
+        for (Long id : jobs.keySet()) {
+            if (jobs.size() <= retainedJobs) break;
+            if (!"RUNNING".equals(jobs.get(id).status)) jobs.remove(id);
+        }
+        return job;
+    }
+
+    // Returns the next row keyed by column name, an empty map for a row to skip, or null at the end.
+    private interface RowSource {
+
+        Map<String, String> next(Job job) throws IOException;
+    }
+
+    private static RowSource csvSource(BufferedReader reader, int maxRowChars) throws IOException {
+        CsvReader csv = new CsvReader(reader, maxRowChars);
+        List<String> header = csv.next();
+        if (header == null) return job -> null;
+        return job -> {
+            List<String> values;
+            try {
+                values = csv.next();
+            } catch (IllegalArgumentException e) {
+                job.read();
+                job.fail(e.getMessage());
+                return Map.of();
+            }
+            if (values == null) return null;
+            if (values.size() == 1 && values.get(0).isEmpty()) return Map.of();
+
+            job.read();
+            if (values.size() != header.size()) {
+                job.fail("Expected " + header.size() + " columns but found " + values.size());
+                return Map.of();
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                row.put(header.get(i), values.get(i));
+            }
+            return row;
+        };
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader, int maxRowChars) {
+        StringBuilder buffer = new StringBuilder();
+        return job -> {
+            Line line = readLine(reader, buffer, maxRowChars);
+            if (line == null) return null;
+            if (!line.tooLong() && line.text().isBlank()) return Map.of();
+
+            job.read();
+            if (line.tooLong()) {
+                job.fail("Line longer than " + maxRowChars + " characters");
+                return Map.of();
+            }
+            JsonNode node;
+            try {
+                node = json.readTree(line.text());
+            } catch (IOException e) {
+                job.fail("Malformed JSON: " + e.getOriginalMessage());
+                return Map.of();
+            }
+            if (!node.isObject()) {
+                job.fail("Expected a JSON object");
+                return Map.of();
+            }
+            Map<String, String> row = new HashMap<>();
+            node.properties().forEach(field -> {
+                if (!field.getValue().isNull()) row.put(field.getKey(), field.getValue().asText());
+            });
+            return row;
+        };
+    }
+
+    private record Line(String text, boolean tooLong) {
+
+        static final Line TOO_LONG = new Line(null, true);
+    }
+
+    // Like BufferedReader.readLine, but a line over maxChars is skipped rather than held in memory
+    // and comes back as Line.TOO_LONG.
+    private static Line readLine(BufferedReader reader, StringBuilder buffer, int maxChars) throws IOException {
+        buffer.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (tooLong) continue;
+            if (buffer.length() == maxChars) {
+                tooLong = true;
+                buffer.setLength(0);
+            } else {
+                buffer.append((char) c);
+            }
+        }
+        if (c == -1 && buffer.isEmpty() && !tooLong) return null;
+        if (tooLong) return Line.TOO_LONG;
+        int end = buffer.length();
+        if (end > 0 && buffer.charAt(end - 1) == '\r') end--;
+        return new Line(buffer.substring(0, end), false);
+    }
+
+    static String required(Map<String, String> row, String column, int maxLength) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) throw new IllegalArgumentException(column + " is required");
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    static BigDecimal price(String value) {
+        try {
+            BigDecimal price = new BigDecimal(value.trim());
+            if (price.signum() < 0) throw new IllegalArgumentException("price must not be negative");
+            return price;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price is not a number: " + value);
+        }
+    }
+
+    // Accepts what the exports write (ISO instants, Jackson's offset format, epoch millis) plus plain dates.
+    static Timestamp timestamp(String value) {
+        String text = value.trim();
+        try {
+            if (text.chars().allMatch(Character::isDigit)) return new Timestamp(Long.parseLong(text));
+            if (text.length() == 10) return Timestamp.from(LocalDate.parse(text).atStartOfDay(ZoneOffset.UTC).toInstant());
+            try {
+                return Timestamp.from(OffsetDateTime.parse(text).toInstant());
+            } catch (DateTimeParseException e) {
+                return Timestamp.from(LocalDateTime.parse(text).toInstant(ZoneOffset.UTC));
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("launchDate is not a date: " + value);
+        }
+    }
+
+    private static final class Job {
+
+        private final Long id;
+
+        private final String entity;
+
+        private final int maxErrors;
+
+        private final Instant startedAt = Instant.now();
+
+        private final AtomicLong read = new AtomicLong();
+
+        private final AtomicLong imported = new AtomicLong();
+
+        private final AtomicLong failed = new AtomicLong();
+
+        private final List<ImportJobDTO.RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile String status = "RUNNING";
+
+        private volatile String message;
+
+        private volatile Instant finishedAt;
+
+        Job(Long id, String entity, int maxErrors) {
+            this.id = id;
+            this.entity = entity;
+            this.maxErrors = maxErrors;
+        }
+
+        void read() {
+            read.incrementAndGet();
+        }
+
+        // Rows are numbered from 1, not counting the CSV header.
+        void fail(String error) {
+            failed.incrementAndGet();
+            if (errors.size() < maxErrors) errors.add(new ImportJobDTO.RowError(read.get(), error));
+        }
+
+        void finish(String status, String message) {
+            this.message = message;
+            this.finishedAt = Instant.now();
+            this.status = status;
+        }
+
+        ImportJobDTO toDTO() {
+            List<ImportJobDTO.RowError> copy;
+            synchronized (errors) {
+                copy = List.copyOf(errors);
+            }
+            return new ImportJobDTO(id, entity, status, read.get(), imported.get(), failed.get(), copy, message,
+                    startedAt, finishedAt);
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package br.com.app.services;
 
 import br.com.app.controllers.PersonController;
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.ChangeSetDTO;
 import br.com.app.data.dto.PersonDTO;
+import br.com.app.events.EntityChangedEvent;
 import br.com.app.exception.RequiredObjectIsNullException;
 import br.com.app.exception.ResourceNotFoundException;
-import static br.com.app.mapper.ObjectMapper.parseListObjects;
 import static br.com.app.mapper.ObjectMapper.parseObject;
+import static br.com.app.metrics.PipelineMetrics.HATEOAS;
+import static br.com.app.metrics.PipelineMetrics.REPOSITORY;
+import static br.com.app.metrics.PipelineMetrics.record;
 import br.com.app.model.Person;
 import br.com.app.repository.PersonRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
@@ -19,57 +31,96 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Service
+@Observed(name = "app.service")
+@Transactional(readOnly = true)
 public class PersonServices {
 
+    private static final String CACHE = "people";
+
     private final AtomicLong counter = new AtomicLong();
 
     @Autowired
     PersonRepository repository;
 
+    // Only present when caching is enabled (spring-boot-starter-cache + @EnableCaching); lookups go straight to the DB otherwise.
+    @Autowired(required = false)
+    CacheManager cacheManager;
+
+    @Autowired
+    ApplicationEventPublisher publisher;
+
+    @Autowired
+    SyncServices sync;
+
     private Logger logger = LoggerFactory.getLogger(PersonServices.class.getName());
 
     public List<PersonDTO> findAll() {
-        logger.info("Finding all PersonDTO!");
+        logger.debug("Finding all PersonDTO!");
 
-        var persons = parseListObjects(repository.findAll(), PersonDTO.class);
+        var persons = record(REPOSITORY, "Person", () -> repository.findAllAsDTO());
         persons.forEach(this::addHateoasLinks);
 
         return persons;
     }
 
     public PersonDTO findById(Long id){
-        logger.info("Finding one Person!");
+        logger.debug("Finding one Person!");
 
-        var entity = repository.findById(id)
+        var dto = record(REPOSITORY, "Person", () -> repository.findDTOById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("No found records for this ID!"));
 
-        var dto = parseObject(entity, PersonDTO.class);
         addHateoasLinks(dto);
 
         return dto;
     }
 
+    public BatchLookupDTO<PersonDTO> findByIds(List<Long> ids) {
+        logger.debug("Finding {} Persons by id!", ids == null ? 0 : ids.size());
+
+        var result = BatchLookup.lookup(ids, cache(),
+                chunk -> record(REPOSITORY, "Person", () -> repository.findDTOsByIdIn(chunk)),
+                PersonDTO::getId, PersonServices::copy);
+        result.items().forEach(this::addHateoasLinks);
+
+        return result;
+    }
+
+    // Read-write on purpose so the routing keeps it on the primary, see SyncServices.
+    @Transactional
+    public ChangeSetDTO<PersonDTO> findChanges(String since) {
+        logger.debug("Finding Person changes!");
+
+        var changes = sync.changesSince("person", since, PersonDTO::getUpdatedAt, PersonDTO::getId,
+                (from, id, until, limit) -> record(REPOSITORY, "Person", () -> repository.findChangedSince(from, id, until, limit)));
+        changes.upserts().forEach(this::addHateoasLinks);
+
+        return changes;
+    }
+
+    @Transactional
     public PersonDTO create(PersonDTO person){
 
         if (person == null) throw new RequiredObjectIsNullException();
 
-        logger.info("Creating one Person!");
+        logger.debug("Creating one Person!");
 
         var entity = parseObject(person, Person.class);
 
-        var dto = parseObject(repository.save(entity), PersonDTO.class);
+        var dto = parseObject(record(REPOSITORY, "Person", () -> repository.save(entity)), PersonDTO.class);
+        publish(EntityChangedEvent.Type.CREATED, dto);
         addHateoasLinks(dto);
 
         return dto;
     }
 
+    @Transactional
     public PersonDTO update(PersonDTO person){
 
         if (person == null) throw new RequiredObjectIsNullException();
 
-        logger.info("Updating one Person!");
+        logger.debug("Updating one Person!");
 
-        Person entity = repository.findById(person.getId())
+        Person entity = record(REPOSITORY, "Person", () -> repository.findById(person.getId()))
                 .orElseThrow(() -> new ResourceNotFoundException("No found records for this ID!"));
 
         entity.setFirstName(person.getFirstName());
@@ -77,26 +128,63 @@ public class PersonServices {
         entity.setAddress(person.getAddress());
         entity.setGender(person.getGender());
 
-        var dto = parseObject(repository.save(entity), PersonDTO.class);
+        var dto = parseObject(record(REPOSITORY, "Person", () -> repository.save(entity)), PersonDTO.class);
+        evict(dto.getId());
+        publish(EntityChangedEvent.Type.UPDATED, dto);
         addHateoasLinks(dto);
 
         return dto;
     }
 
+    @Transactional
     public void delete(Long id){
-        logger.info("Deleting one Person!");
+        logger.debug("Deleting one Person!");
 
-        Person entity = repository.findById(id)
+        Person entity = record(REPOSITORY, "Person", () -> repository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("No found records for this ID!"));
 
-        repository.delete(entity);
+        record(REPOSITORY, "Person", () -> repository.delete(entity));
+        evict(id);
+        sync.markDeleted("person", id);
+        publisher.publishEvent(new EntityChangedEvent("person", EntityChangedEvent.Type.DELETED, id, null));
+    }
+
+    private Cache cache() {
+        return cacheManager != null ? cacheManager.getCache(CACHE) : null;
+    }
+
+    // Evicting before commit would let a concurrent lookup cache the old row again until the entry expires.
+    private void evict(Long id) {
+        Cache cache = cache();
+        if (cache == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(id);
+            }
+        });
+    }
+
+    // Subscribers get a link-free copy; links are added to the response DTO afterwards.
+    private void publish(EntityChangedEvent.Type type, PersonDTO dto) {
+        publisher.publishEvent(new EntityChangedEvent("person", type, dto.getId(), copy(dto)));
+    }
+
+    private static PersonDTO copy(PersonDTO dto) {
+        return new PersonDTO(dto.getId(), dto.getFirstName(), dto.getLastName(), dto.getAddress(), dto.getGender(), dto.getUpdatedAt());
     }
 
     private void addHateoasLinks(PersonDTO dto) {
-        dto.add(linkTo(methodOn(PersonController.class).findById(dto.getId())).withSelfRel().withType("GET"));
-        dto.add(linkTo(methodOn(PersonController.class).findAll()).withRel("findAll").withType("GET"));
-        dto.add(linkTo(methodOn(PersonController.class).create(dto)).withRel("create").withType("POST"));
-        dto.add(linkTo(methodOn(PersonController.class).update(dto)).withRel("update").withType("PUT"));
-        dto.add(linkTo(methodOn(PersonController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        record(HATEOAS, "Person", () -> {
+            dto.add(linkTo(methodOn(PersonController.class).findById(dto.getId())).withSelfRel().withType("GET"));
+            dto.add(linkTo(methodOn(PersonController.class).findAll()).withRel("findAll").withType("GET"));
+            dto.add(linkTo(methodOn(PersonController.class).create(dto)).withRel("create").withType("POST"));
+            dto.add(linkTo(methodOn(PersonController.class).update(dto)).withRel("update").withType("PUT"));
+            dto.add(linkTo(methodOn(PersonController.class).delete(dto.getId())).withRel("delete").withType("DELETE"));
+        });
     }
 }
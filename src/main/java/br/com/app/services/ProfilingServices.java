@@ -0,0 +1,194 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.ProfilingSummaryDTO;
+import br.com.app.exception.BadRequestException;
+import br.com.app.exception.ConflictException;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class ProfilingServices {
+
+    private static final String APP_PACKAGE = "br.com.app.";
+
+    public enum Preset {
+        CPU, ALLOCATION, LOCKS;
+
+        public static Preset of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown profiling preset " + name + ", expected one of "
+                        + Arrays.toString(values()).toLowerCase(Locale.ROOT) + "!");
+            }
+        }
+    }
+
+    private Logger logger = LoggerFactory.getLogger(ProfilingServices.class.getName());
+
+    @Value("${app.profiling.directory:${java.io.tmpdir}/rest-api-profiling}")
+    private Path directory;
+
+    private Recording recording;
+
+    private Preset preset;
+
+    private Path lastRecording;
+
+    private Preset lastPreset;
+
+    public synchronized String start(Preset preset, Duration maxDuration) throws IOException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ConflictException("A " + this.preset + " recording is already running!");
+        }
+        if (recording != null) {
+            lastRecording = recording.getDestination();
+            lastPreset = this.preset;
+            recording.close();
+        }
+
+        Files.createDirectories(directory);
+
+        Recording newRecording = new Recording();
+        newRecording.setName("rest-api-" + preset.name().toLowerCase());
+        newRecording.setToDisk(true);
+        newRecording.setDuration(maxDuration);
+        newRecording.setDestination(directory.resolve(newRecording.getName() + "-" + Instant.now().toEpochMilli() + ".jfr"));
+        configure(newRecording, preset);
+        newRecording.start();
+
+        logger.info("Started JFR {} recording, stopping automatically after {}", preset, maxDuration);
+
+        this.recording = newRecording;
+        this.preset = preset;
+        return newRecording.getName();
+    }
+
+    public synchronized Path stop() throws IOException {
+        if (recording == null) {
+            throw new ConflictException("No recording was started!");
+        }
+
+        Path destination = recording.getDestination();
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        recording.close();
+
+        logger.info("Stopped JFR {} recording, written to {}", preset, destination);
+
+        lastRecording = destination;
+        lastPreset = preset;
+        recording = null;
+        preset = null;
+        return destination;
+    }
+
+    public synchronized ProfilingSummaryDTO summarizeLast(int top) throws IOException {
+        if (lastRecording == null) {
+            throw new ConflictException("No recording was stopped yet!");
+        }
+        return summarize(lastRecording, lastPreset, top);
+    }
+
+    public synchronized String status() {
+        return recording == null ? "IDLE" : preset + " " + recording.getState();
+    }
+
+    public ProfilingSummaryDTO summarize(Path file, Preset preset, int top) throws IOException {
+        Map<String, long[]> hotMethods = new HashMap<>();
+        Map<String, long[]> allocationSites = new HashMap<>();
+        Map<String, long[]> lockSites = new HashMap<>();
+        long events = 0;
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                events++;
+
+                String site = firstApplicationFrame(event.getStackTrace());
+                if (site == null) continue;
+
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> add(hotMethods, site, 1);
+                    case "jdk.ObjectAllocationSample" -> add(allocationSites, site, event.getLong("weight"));
+                    case "jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadPark" ->
+                            add(lockSites, site, event.getDuration().toNanos());
+                    default -> { }
+                }
+            }
+        }
+
+        return new ProfilingSummaryDTO(preset == null ? null : preset.name(), events,
+                top(hotMethods, top), top(allocationSites, top), top(lockSites, top));
+    }
+
+    private void configure(Recording recording, Preset preset) {
+        switch (preset) {
+            case CPU -> {
+                recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(10)).withStackTrace();
+                recording.enable("jdk.NativeMethodSample").withPeriod(Duration.ofMillis(20)).withStackTrace();
+            }
+            case ALLOCATION -> {
+                recording.enable("jdk.ObjectAllocationSample").with("throttle", "300/s").withStackTrace();
+                recording.enable("jdk.GarbageCollection");
+            }
+            case LOCKS -> {
+                recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ofMillis(5)).withStackTrace();
+                recording.enable("jdk.JavaMonitorWait").withThreshold(Duration.ofMillis(5)).withStackTrace();
+                recording.enable("jdk.ThreadPark").withThreshold(Duration.ofMillis(5)).withStackTrace();
+            }
+        }
+    }
+
+    private String firstApplicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return null;
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) continue;
+
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE) && !type.contains("$$")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+
+    private void add(Map<String, long[]> sites, String site, long value) {
+        long[] counters = sites.computeIfAbsent(site, key -> new long[2]);
+        counters[0]++;
+        counters[1] += value;
+    }
+
+    private List<ProfilingSummaryDTO.Site> top(Map<String, long[]> sites, int top) {
+        return sites.entrySet()
+                .stream()
+                .map(entry -> new ProfilingSummaryDTO.Site(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparingLong(ProfilingSummaryDTO.Site::total).reversed())
+                .limit(top)
+                .toList();
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.ChangeSetDTO;
+import br.com.app.exception.BadRequestException;
+import br.com.app.model.Tombstone;
+import br.com.app.repository.TombstoneRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static br.com.app.metrics.PipelineMetrics.REPOSITORY;
+import static br.com.app.metrics.PipelineMetrics.record;
+
+// Delta sync over updated_at and the tombstones table.
+//
+// Reads stop at now - safety-window: rows are stamped when they are written, not when they
+// commit, so a row stamped early in a long transaction would otherwise become visible after a
+// client already moved its cursor past it. The window therefore has to exceed the longest write
+// transaction: the transactional batch, bounded by app.batch.timeout, is checked at startup.
+// When a page comes back short the cursor jumps to that bound, so quiet periods do not leave
+// old cursors behind.
+// Change reads always go to the primary: a lagging replica would hand out a cursor past rows it
+// has not applied yet, and the client would never see them.
+@Service
+@Transactional(readOnly = true)
+public class SyncServices {
+
+    @FunctionalInterface
+    public interface ChangedRows<T> {
+
+        List<T> find(Date since, Long id, Date until, Limit limit);
+    }
+
+    @Autowired
+    TombstoneRepository repository;
+
+    @Value("${app.sync.safety-window:60s}")
+    Duration safetyWindow;
+
+    @Value("${app.batch.timeout:30s}")
+    Duration batchTimeout;
+
+    @Value("${app.sync.page-size:500}")
+    int pageSize;
+
+    @Value("${app.sync.tombstone-retention:30d}")
+    Duration tombstoneRetention;
+
+    private Logger logger = LoggerFactory.getLogger(SyncServices.class.getName());
+
+    @PostConstruct
+    void checkSafetyWindow() {
+        if (safetyWindow.compareTo(batchTimeout) <= 0) {
+            throw new IllegalStateException("app.sync.safety-window (" + safetyWindow
+                    + ") must exceed app.batch.timeout (" + batchTimeout + "), the longest write transaction");
+        }
+    }
+
+    @Transactional
+    public void markDeleted(String entity, Long id) {
+        record(REPOSITORY, "Tombstone", () -> repository.save(new Tombstone(entity, id, new Date())));
+    }
+
+    @Transactional
+    public <T> ChangeSetDTO<T> changesSince(String entity, String since, Function<T, Date> updatedAt,
+                                            Function<T, Long> idOf, ChangedRows<T> changedRows) {
+        Date until = new Date(System.currentTimeMillis() - safetyWindow.toMillis());
+        SyncToken token = since == null || since.isBlank() ? SyncToken.initial(until) : SyncToken.decode(since);
+
+        if (token.deletedSince().getTime() < System.currentTimeMillis() - tombstoneRetention.toMillis()) {
+            throw new BadRequestException("Sync token is older than the tombstone retention, start over without since!");
+        }
+
+        List<T> upserts = changedRows.find(token.upsertedSince(), token.upsertedId(), until, Limit.of(pageSize));
+        List<Tombstone> deletes = record(REPOSITORY, "Tombstone", () -> repository.findDeletedSince(entity,
+                token.deletedSince(), token.deletedId(), until, Limit.of(pageSize)));
+
+        SyncToken next = token;
+        if (upserts.size() == pageSize) {
+            T last = upserts.get(upserts.size() - 1);
+            next = next.withUpserted(updatedAt.apply(last), idOf.apply(last));
+        } else {
+            next = next.withUpserted(until, Long.MAX_VALUE);
+        }
+        if (deletes.size() == pageSize) {
+            Tombstone last = deletes.get(deletes.size() - 1);
+            next = next.withDeleted(last.getDeletedAt(), last.getId());
+        } else {
+            next = next.withDeleted(until, Long.MAX_VALUE);
+        }
+
+        return new ChangeSetDTO<>(upserts, deletes.stream().map(Tombstone::getEntityId).toList(), next.encode(),
+                upserts.size() == pageSize || deletes.size() == pageSize);
+    }
+
+    @Scheduled(cron = "${app.sync.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int removed = repository.deleteOlderThan(new Date(System.currentTimeMillis() - tombstoneRetention.toMillis()));
+        logger.info("Purged {} tombstones older than {}", removed, tombstoneRetention);
+    }
+}
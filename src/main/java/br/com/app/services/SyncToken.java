@@ -0,0 +1,70 @@
+package br.com.app.services;
+
+import br.com.app.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Date;
+
+// Opaque delta-sync cursor: the last (updated_at, id) of upserts and the last (deleted_at, id)
+// of tombstones a client has seen, URL-safe Base64 encoded.
+//
+// Times are kept in epoch nanoseconds so the cursor carries the column's full precision; a
+// millisecond cursor sits below every row of a microsecond block sharing one stamp (such as the
+// V6 backfill), and the next page would return that block again.
+record SyncToken(long upsertedAt, long upsertedId, long deletedAt, long deletedId) {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // A first sync needs every live row but none of the deletions that happened before it.
+    static SyncToken initial(Date until) {
+        return new SyncToken(0, 0, epochNanos(until), Long.MAX_VALUE);
+    }
+
+    static SyncToken decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split("\\.");
+            if (parts.length != 4) throw new IllegalArgumentException("expected 4 parts");
+            return new SyncToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid sync token!");
+        }
+    }
+
+    String encode() {
+        String raw = upsertedAt + "." + upsertedId + "." + deletedAt + "." + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    Timestamp upsertedSince() {
+        return timestamp(upsertedAt);
+    }
+
+    Timestamp deletedSince() {
+        return timestamp(deletedAt);
+    }
+
+    SyncToken withUpserted(Date at, long id) {
+        return new SyncToken(epochNanos(at), id, deletedAt, deletedId);
+    }
+
+    SyncToken withDeleted(Date at, long id) {
+        return new SyncToken(upsertedAt, upsertedId, epochNanos(at), id);
+    }
+
+    // JPA hands timestamp columns back as java.sql.Timestamp, whose nanos hold the sub-millisecond part.
+    static long epochNanos(Date at) {
+        if (at instanceof Timestamp timestamp) {
+            return Math.floorDiv(timestamp.getTime(), 1000L) * NANOS_PER_SECOND + timestamp.getNanos();
+        }
+        return at.getTime() * 1_000_000L;
+    }
+
+    static Timestamp timestamp(long epochNanos) {
+        Timestamp timestamp = new Timestamp(Math.floorDiv(epochNanos, NANOS_PER_SECOND) * 1000L);
+        timestamp.setNanos((int) Math.floorMod(epochNanos, NANOS_PER_SECOND));
+        return timestamp;
+    }
+}
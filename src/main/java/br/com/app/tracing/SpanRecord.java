@@ -0,0 +1,25 @@
+package br.com.app.tracing;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record SpanRecord(String traceId, String spanId, String parentSpanId, String name, String kind,
+                         long startEpochNanos, double durationMillis, Map<String, String> attributes) {
+
+    public static SpanRecord from(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+
+        return new SpanRecord(
+                span.getTraceId(),
+                span.getSpanId(),
+                span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                span.getName(),
+                span.getKind().name(),
+                span.getStartEpochNanos(),
+                (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0,
+                attributes);
+    }
+}
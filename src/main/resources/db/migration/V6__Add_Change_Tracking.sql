@@ -0,0 +1,16 @@
+ALTER TABLE `books` ADD COLUMN `updated_at` datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX `idx_books_updated_at` ON `books` (`updated_at`, `id`);
+
+ALTER TABLE `person` ADD COLUMN `updated_at` datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX `idx_person_updated_at` ON `person` (`updated_at`, `id`);
+
+CREATE TABLE `tombstones` (
+  `id` bigint NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `entity` varchar(20) NOT NULL,
+  `entity_id` bigint NOT NULL,
+  `deleted_at` datetime(6) NOT NULL
+);
+
+CREATE INDEX `idx_tombstones_entity_deleted_at` ON `tombstones` (`entity`, `deleted_at`, `id`);
@@ -0,0 +1,98 @@
+package br.com.app.config;
+
+import br.com.app.datasource.ReadWriteRoutingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        MDC.clear();
+        ReadWriteRoutingContext.clear();
+    }
+
+    // What CallerRunsPolicy does once the pool and queue are full: the task runs on the request thread.
+    @Test
+    void taskRunOnTheRequestThreadLeavesItsContextInPlace() {
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        MDC.put("traceId", "abc");
+        AtomicReference<RequestAttributes> seen = new AtomicReference<>();
+
+        BatchConfig.withRequestContext(() -> seen.set(RequestContextHolder.getRequestAttributes())).run();
+
+        assertSame(attributes, seen.get());
+        assertSame(attributes, RequestContextHolder.getRequestAttributes());
+        assertEquals("abc", MDC.get("traceId"));
+    }
+
+    @Test
+    void workerThreadContextIsRestoredAfterTheTask() {
+        RequestAttributes request = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(request);
+        MDC.put("traceId", "request");
+        Runnable task = BatchConfig.withRequestContext(() -> assertEquals("request", MDC.get("traceId")));
+
+        RequestContextHolder.resetRequestAttributes();
+        MDC.clear();
+        task.run();
+
+        assertNull(RequestContextHolder.getRequestAttributes());
+        assertNull(MDC.get("traceId"));
+    }
+
+    @Test
+    void writeOnAWorkerSticksToTheBatchNotToTheWorker() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Runnable write = BatchConfig.withRequestContext(ReadWriteRoutingContext::markWrite);
+        RequestContextHolder.resetRequestAttributes();
+        ReadWriteRoutingContext.clear();
+
+        // Another client's batch, submitted without any routing state of its own.
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        AtomicBoolean otherBatchSticky = new AtomicBoolean(true);
+        Runnable read = BatchConfig.withRequestContext(() -> otherBatchSticky.set(ReadWriteRoutingContext.isStickyPrimary()));
+
+        AtomicBoolean workerStickyAfterWrite = new AtomicBoolean(true);
+        Thread worker = new Thread(() -> {
+            write.run();
+            workerStickyAfterWrite.set(ReadWriteRoutingContext.isStickyPrimary());
+            read.run();
+        });
+        worker.start();
+        worker.join();
+
+        assertFalse(workerStickyAfterWrite.get(), "the write leaked onto the pooled thread");
+        assertFalse(otherBatchSticky.get(), "another batch was routed to the primary");
+    }
+
+    @Test
+    void writeOnOneWorkerRoutesLaterReadsOfTheSameBatchToThePrimary() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Runnable write = BatchConfig.withRequestContext(ReadWriteRoutingContext::markWrite);
+        AtomicBoolean readSticky = new AtomicBoolean();
+        Runnable read = BatchConfig.withRequestContext(() -> readSticky.set(ReadWriteRoutingContext.isStickyPrimary()));
+
+        Thread first = new Thread(write);
+        first.start();
+        first.join();
+        Thread second = new Thread(read);
+        second.start();
+        second.join();
+
+        assertTrue(readSticky.get());
+        assertTrue(ReadWriteRoutingContext.isStickyPrimary());
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.app.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaVersionVerifierTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SchemaVersionVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:schema-history;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS flyway_schema_history");
+        jdbcTemplate.execute("CREATE TABLE flyway_schema_history (installed_rank INT PRIMARY KEY, "
+                + "version VARCHAR(50), checksum INT, success BOOLEAN)");
+        jdbcTemplate.update("INSERT INTO flyway_schema_history VALUES (1, '4', 100, TRUE)");
+        jdbcTemplate.update("INSERT INTO flyway_schema_history VALUES (2, '5', 200, TRUE)");
+
+        verifier = new SchemaVersionVerifier(dataSource, "flyway_schema_history");
+    }
+
+    @Test
+    void acceptsExpectedVersionAndChecksum() {
+        assertDoesNotThrow(() -> verifier.verify("5", 200));
+    }
+
+    @Test
+    void acceptsNewerSchema() {
+        jdbcTemplate.update("INSERT INTO flyway_schema_history VALUES (3, '6', 300, TRUE)");
+
+        assertDoesNotThrow(() -> verifier.verify("5", null));
+    }
+
+    @Test
+    void rejectsOlderSchemaIgnoringFailedMigrations() {
+        jdbcTemplate.update("INSERT INTO flyway_schema_history VALUES (3, '6', 300, FALSE)");
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> verifier.verify("6", null));
+
+        assertTrue(exception.getMessage().contains("older than the expected 6"));
+    }
+
+    @Test
+    void rejectsChecksumMismatch() {
+        Exception exception = assertThrows(IllegalStateException.class, () -> verifier.verify("5", 999));
+
+        assertTrue(exception.getMessage().contains("Checksum"));
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.app.controllers;
+
+import br.com.app.services.ExportServices;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.apache.catalina.Globals.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class ExportControllerTest {
+
+    @TempDir
+    Path directory;
+
+    @InjectMocks
+    private ExportController controller;
+
+    @Mock
+    ExportServices service;
+
+    private ExportServices.Snapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        Path file = Files.writeString(directory.resolve("book-1.csv"), "0123456789");
+        snapshot = new ExportServices.Snapshot("book", ExportServices.Format.CSV, file, 10, 1);
+        when(service.findSnapshot("book", "csv")).thenReturn(snapshot);
+    }
+
+    @Test
+    void servesWholeFile() throws Exception {
+        var response = get(new MockHttpServletRequest("GET", "/api/export/v1/book/csv"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals(snapshot.etag(), response.getHeader("ETag"));
+    }
+
+    @Test
+    void servesSingleRange() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/export/v1/book/csv");
+        request.addHeader("Range", "bytes=4-");
+
+        var response = get(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("456789", response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("bytes 4-9/10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void ignoresRangeForAnotherGeneration() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/export/v1/book/csv");
+        request.addHeader("Range", "bytes=4-");
+        request.addHeader("If-Range", "\"book-0\"");
+
+        assertEquals(200, get(request).getStatus());
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/export/v1/book/csv");
+        request.addHeader("Range", "bytes=20-");
+
+        var response = get(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void handsTheRangeToSendfileWhenSupported() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/export/v1/book/csv");
+        request.setAttribute(SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=2-5");
+
+        var response = get(request);
+
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(4, response.getContentLengthLong());
+        assertEquals(2L, request.getAttribute(SENDFILE_FILE_START_ATTR));
+        assertEquals(6L, request.getAttribute(SENDFILE_FILE_END_ATTR));
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+        var response = new MockHttpServletResponse();
+        controller.export("book", "csv", request, response);
+        return response;
+    }
+}
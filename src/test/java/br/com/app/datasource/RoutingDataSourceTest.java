@@ -0,0 +1,80 @@
+package br.com.app.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingDataSourceTest {
+
+    private DataSource dataSource;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        var primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+        var replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+        dataSource = new LazyConnectionDataSourceProxy(new RoutingDataSource(primary, List.of(replica), true));
+
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingContext.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertTrue(readOnly.execute(status -> currentUrl()).contains("replica"));
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        assertTrue(readWrite.execute(status -> currentUrl()).contains("primary"));
+    }
+
+    @Test
+    void readAfterWriteStaysOnPrimaryWithinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        readWrite.execute(status -> currentUrl());
+
+        assertTrue(readOnly.execute(status -> currentUrl()).contains("primary"));
+
+        ReadWriteRoutingContext.clear();
+
+        assertTrue(readOnly.execute(status -> currentUrl()).contains("replica"));
+    }
+
+    private String currentUrl() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.getMetaData().getURL();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.app.datasource;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SqlAssertions {
+
+    private SqlAssertions() {}
+
+    public static <T> T assertStatements(int expected, Supplier<T> action) {
+        return assertStatements(expected, expected, action);
+    }
+
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        return assertStatements(0, max, action);
+    }
+
+    public static <T> T assertMaxSelects(int max, Supplier<T> action) {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            T result = action.get();
+            assertTrue(stats.getSelects() <= max,
+                    "Expected at most " + max + " SELECT statements but " + stats.getSelects() + " were executed");
+            return result;
+        } finally {
+            SqlStatementStats.end();
+        }
+    }
+
+    private static <T> T assertStatements(int min, int max, Supplier<T> action) {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            T result = action.get();
+            assertTrue(stats.getStatements() >= min && stats.getStatements() <= max,
+                    "Expected between " + min + " and " + max + " SQL statements but "
+                            + stats.getStatements() + " were executed");
+            return result;
+        } finally {
+            SqlStatementStats.end();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.app.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+
+import static br.com.app.datasource.SqlAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementListenerTest {
+
+    private final SqlStatementListener listener = new SqlStatementListener(100);
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    void countsStatementsByTypeAndSlowOnes() {
+        SqlStatementStats stats = SqlStatementStats.begin();
+
+        execute("select * from books where id = ?", 5);
+        execute("SELECT * FROM person", 150);
+        execute("insert into books (title) values (?)", 10);
+        execute("update books set title = ? where id = ?", 1);
+
+        assertEquals(4, stats.getStatements());
+        assertEquals(2, stats.getSelects());
+        assertEquals(1, stats.getInserts());
+        assertEquals(1, stats.getUpdates());
+        assertEquals(166, stats.getElapsedMillis());
+        assertEquals(List.of("SELECT * FROM person"), stats.getSlowStatements());
+    }
+
+    @Test
+    void ignoresStatementsOutsideATrackedScope() {
+        execute("select 1", 1);
+
+        assertNull(SqlStatementStats.current());
+    }
+
+    @Test
+    void assertionsFailWhenACodePathIssuesExtraQueries() {
+        assertStatements(1, () -> execute("select 1", 1));
+
+        assertThrows(AssertionFailedError.class, () -> assertMaxSelects(1, () -> {
+            execute("select * from books", 1);
+            return execute("select * from person where id = ?", 1);
+        }));
+    }
+
+    private Void execute(String sql, long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        listener.afterQuery(info, List.of(new QueryInfo(sql)));
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.app.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementsFilterTest {
+
+    private final SqlStatementsFilter filter = new SqlStatementsFilter(new SimpleMeterRegistry(), true);
+
+    @Test
+    void debugModeBuffersRegularResponsesAndAddsHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/book/v1/1"), response, (req, res) -> {
+            res.getWriter().write("body");
+            res.flushBuffer();
+            assertFalse(response.isCommitted(), "committed before the debug headers were added");
+        });
+
+        assertEquals("body", response.getContentAsString());
+        assertEquals("0", response.getHeader(SqlStatementsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void handlersMarkedAsStreamingWriteStraightThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/v1/book/csv");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            res.getOutputStream().write("held ".getBytes());
+            req.setAttribute(SqlStatementsFilter.STREAMING_ATTRIBUTE, Boolean.TRUE);
+            res.getOutputStream().write("streamed".getBytes());
+            assertEquals("held streamed", response.getContentAsString());
+        });
+
+        assertEquals("held streamed", response.getContentAsString());
+        assertNull(response.getHeader(SqlStatementsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void asyncRequestsAreStreamedOnceTheHandlerReturns() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/changes/v1");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> emitter = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            res.getWriter().write("event: reset\n\n");
+            res.flushBuffer();
+            emitter.set(res);
+        });
+        emitter.get().getWriter().write("event: heartbeat\n\n");
+        emitter.get().flushBuffer();
+
+        assertEquals("event: reset\n\nevent: heartbeat\n\n", response.getContentAsString());
+        assertNull(response.getHeader(SqlStatementsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void statementsAreRecordedWhenTheHandlerFails() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementsFilter failing = new SqlStatementsFilter(registry, true);
+
+        assertThrows(ServletException.class, () -> failing.doFilter(new MockHttpServletRequest("GET", "/api/book/v1/1"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    throw new ServletException("boom");
+                }));
+
+        assertEquals(1, registry.get("app.sql.statements").summary().count());
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.app.events;
+
+import br.com.app.data.dto.ChangeEventDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTest {
+
+    @Test
+    void resumesAfterLastEventIdAndThenStreamsLiveEvents() throws Exception {
+        ChangeFeed feed = new ChangeFeed(100, 10);
+        long first = feed.publish(created("book", 1L)).id();
+        feed.publish(created("book", 2L));
+        feed.publish(created("person", 3L));
+
+        CollectingSink sink = new CollectingSink();
+        feed.subscribe(first, null, sink);
+        feed.publish(created("book", 4L));
+
+        assertEquals(2L, sink.nextChange().entityId());
+        assertEquals(3L, sink.nextChange().entityId());
+        ChangeEventDTO live = sink.nextChange();
+        assertEquals(4L, live.entityId());
+        assertEquals(first + 3, live.id());
+    }
+
+    @Test
+    void asksForResetWhenLastEventIdIsNoLongerBuffered() throws Exception {
+        ChangeFeed feed = new ChangeFeed(4, 10);
+        long first = feed.publish(created("book", 1L)).id();
+        for (long id = 2; id <= 10; id++) feed.publish(created("book", id));
+
+        CollectingSink sink = new CollectingSink();
+        feed.subscribe(first, null, sink);
+
+        assertEquals(ChangeFeed.RESET, sink.next().name());
+    }
+
+    @Test
+    void resetReachesLiveSubscribersAndThoseResumingFromBeforeIt() throws Exception {
+        ChangeFeed feed = new ChangeFeed(100, 10);
+        long before = feed.publish(created("book", 1L)).id();
+        CollectingSink live = new CollectingSink();
+        feed.subscribe(null, "book", live);
+
+        feed.reset("book");
+
+        assertEquals(ChangeFeed.RESET, live.next().name());
+        CollectingSink resuming = new CollectingSink();
+        feed.subscribe(before, null, resuming);
+        assertEquals(ChangeFeed.RESET, resuming.next().name());
+    }
+
+    @Test
+    void filtersByEntity() throws Exception {
+        ChangeFeed feed = new ChangeFeed(100, 10);
+        CollectingSink sink = new CollectingSink();
+        feed.subscribe(null, "person", sink);
+
+        feed.publish(created("book", 1L));
+        feed.publish(created("person", 2L));
+
+        assertEquals(2L, sink.nextChange().entityId());
+    }
+
+    @Test
+    void disconnectsSubscribersThatFallBehind() throws Exception {
+        ChangeFeed feed = new ChangeFeed(100, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        feed.subscribe(null, null, new ChangeFeed.Sink() {
+            @Override
+            public void send(String name, Long id, Object data) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void complete() {
+                completed.countDown();
+            }
+        });
+
+        for (long id = 1; id <= 5; id++) feed.publish(created("book", id));
+        release.countDown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    void disconnectsSubscribersThatCannotTakeAReset() throws Exception {
+        ChangeFeed feed = new ChangeFeed(100, 2);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        BlockingQueue<String> names = new LinkedBlockingQueue<>();
+        feed.subscribe(null, null, new ChangeFeed.Sink() {
+            @Override
+            public void send(String name, Long id, Object data) {
+                names.add(name);
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void complete() {
+                completed.countDown();
+            }
+        });
+
+        long seen = feed.publish(created("book", 1L)).id();
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        feed.publish(created("book", 2L));
+        feed.publish(created("book", 3L));
+        feed.reset("book");
+        release.countDown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, feed.subscriberCount());
+        assertFalse(names.contains(ChangeFeed.RESET));
+
+        CollectingSink reconnected = new CollectingSink();
+        feed.subscribe(seen, null, reconnected);
+        assertEquals(ChangeFeed.RESET, reconnected.next().name());
+    }
+
+    private static EntityChangedEvent created(String entity, Long id) {
+        return new EntityChangedEvent(entity, EntityChangedEvent.Type.CREATED, id, null);
+    }
+
+    private record Sent(String name, Long id, Object data) {
+
+    }
+
+    private static final class CollectingSink implements ChangeFeed.Sink {
+
+        private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(String name, Long id, Object data) {
+            sent.add(new Sent(name, id, data));
+        }
+
+        @Override
+        public void complete() {
+
+        }
+
+        Sent next() throws InterruptedException {
+            Sent next = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(next, "no event delivered");
+            return next;
+        }
+
+        ChangeEventDTO nextChange() throws InterruptedException {
+            Sent next = next();
+            assertEquals(ChangeFeed.CHANGE, next.name());
+            return (ChangeEventDTO) next.data();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.app.lifecycle;
+
+import br.com.app.config.GracefulShutdownConfig;
+import br.com.app.controllers.PersonController;
+import br.com.app.data.dto.PersonDTO;
+import br.com.app.services.PersonServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GracefulShutdownTest {
+
+    private static final int CLIENTS = 8;
+
+    private static final long READINESS_GRACE_MS = 500;
+
+    private static final long WRITE_MS = 200;
+
+    @Test
+    void noAcceptedRequestIsDroppedDuringShutdown() throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PersonApi.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0",
+                        "server.shutdown=graceful",
+                        "spring.lifecycle.timeout-per-shutdown-phase=10s",
+                        "app.shutdown.readiness-grace=" + READINESS_GRACE_MS + "ms",
+                        "spring.jmx.enabled=false")
+                .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        URI uri = URI.create("http://localhost:" + port + "/api/person/v1");
+        ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+
+        AtomicBoolean closing = new AtomicBoolean();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger completedAfterClose = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+        CountDownLatch clientsDone = new CountDownLatch(CLIENTS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.execute(() -> {
+                try {
+                    while (true) {
+                        try {
+                            int status = post(uri);
+                            if (status != 200) dropped.incrementAndGet();
+                            completed.incrementAndGet();
+                            if (closing.get()) completedAfterClose.incrementAndGet();
+                        } catch (ConnectException e) {
+                            // The listener is closed: a real client would now be on another instance.
+                            refused.incrementAndGet();
+                            return;
+                        } catch (IOException e) {
+                            dropped.incrementAndGet();
+                            return;
+                        }
+                    }
+                } finally {
+                    clientsDone.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(1000);
+        closing.set(true);
+        long closeStarted = System.nanoTime();
+        context.close();
+        long closeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - closeStarted);
+
+        assertTrue(clientsDone.await(15, TimeUnit.SECONDS));
+        clients.shutdownNow();
+
+        assertEquals(0, dropped.get(), "requests dropped during shutdown");
+        assertEquals(CLIENTS, refused.get());
+        assertTrue(completedAfterClose.get() > 0, "requests in flight at shutdown should complete");
+        assertTrue(completed.get() > CLIENTS);
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+        assertTrue(closeMillis >= READINESS_GRACE_MS, "listener closed before the readiness grace elapsed");
+    }
+
+    private static int post(URI uri) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Connection", "close");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("Accept", "application/json");
+        connection.setDoOutput(true);
+        connection.setConnectTimeout(2000);
+        connection.setReadTimeout(5000);
+        try {
+            try (OutputStream body = connection.getOutputStream()) {
+                body.write("{\"firstName\":\"Ayrton\",\"lastName\":\"Senna\",\"address\":\"Sao Paulo\",\"gender\":\"Male\"}"
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    // The real PersonController in front of a service whose write stays in flight for WRITE_MS,
+    // standing in for the database round trips of a create.
+    @Configuration
+    @EnableAutoConfiguration(exclude = { DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            FlywayAutoConfiguration.class })
+    @Import({ GracefulShutdownConfig.class, PersonController.class })
+    static class PersonApi {
+
+        @Bean
+        PersonServices personServices() {
+            PersonServices service = mock(PersonServices.class);
+            when(service.create(any(PersonDTO.class))).thenAnswer(invocation -> {
+                Thread.sleep(WRITE_MS);
+                PersonDTO person = invocation.getArgument(0);
+                person.setId(1L);
+                return person;
+            });
+            return service;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.app.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs only with the loadtest Maven profile (mvn -B test -Ploadtest); tuned through system properties:
+//   -Dload.model=closed|open  -Dload.users=16  -Dload.think=0ms  -Dload.rate=200  -Dload.max-in-flight=256
+//   -Dload.duration=30s  -Dload.warmup=10s  -Dload.resources=book,person
+//   -Dload.mix=findAll:10,findById:60,create:10,update:15,delete:5
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    private final Logger logger = LoggerFactory.getLogger(ApiLoadTest.class.getName());
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void runConfiguredWorkload() throws Exception {
+        String model = System.getProperty("load.model", "closed");
+        WorkloadMix mix = WorkloadMix.parse(System.getProperty("load.mix",
+                "findAll:10,findById:60,create:10,update:15,delete:5"));
+        List<String> resources = List.of(System.getProperty("load.resources", "book,person").split(","));
+        Duration duration = duration("load.duration", "30s");
+        Duration warmup = duration("load.warmup", "10s");
+
+        ApiWorkload workload = new ApiWorkload("http://localhost:" + port, resources, mix);
+        workload.seed();
+
+        run(model, workload, warmup);
+        LoadReport report = run(model, workload, duration);
+
+        logger.info("{} model, mix {}, {} measured:\n{}", model, mix, duration, report.format());
+
+        assertTrue(report.totalCount() > 0);
+        assertTrue(report.totalErrors() <= report.totalCount() / 100,
+                "more than 1% of the requests failed:\n" + report.format());
+    }
+
+    private LoadReport run(String model, ApiWorkload workload, Duration duration) throws InterruptedException {
+        return switch (model) {
+            case "closed" -> LoadDriver.closed(workload, Integer.getInteger("load.users", 16), duration,
+                    duration("load.think", "0ms"));
+            case "open" -> LoadDriver.open(workload, Integer.getInteger("load.rate", 200), duration,
+                    Integer.getInteger("load.max-in-flight", 256));
+            default -> throw new IllegalArgumentException("load.model must be closed or open, was " + model);
+        };
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.app.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// Drives the public API over HTTP. findById/update pick any known id; delete only removes
+// rows this workload created, so the seeded fixtures keep findAll at a stable size.
+final class ApiWorkload implements LoadDriver.Workload {
+
+    private static final Map<String, String> BODIES = Map.of(
+            "book", "{%s\"title\":\"Load test\",\"author\":\"Harness\",\"price\":10.0,\"launchDate\":1704067200000}",
+            "person", "{%s\"firstName\":\"Load\",\"lastName\":\"Harness\",\"address\":\"Rua X\",\"gender\":\"Male\"}");
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private final String baseUrl;
+
+    private final List<String> resources;
+
+    private final WorkloadMix mix;
+
+    private final Map<String, IdPool> ids;
+
+    ApiWorkload(String baseUrl, List<String> resources, WorkloadMix mix) {
+        this.baseUrl = baseUrl;
+        this.resources = resources;
+        this.mix = mix;
+        this.ids = resources.stream().collect(Collectors.toMap(r -> r, r -> new IdPool()));
+    }
+
+    void seed() throws Exception {
+        for (String resource : resources) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri(resource, "")).GET());
+            for (JsonNode item : json.readTree(response.body())) {
+                ids.get(resource).add(item.get("id").asLong(), false);
+            }
+        }
+    }
+
+    @Override
+    public void execute(long intendedStartNanos, LoadReport report) {
+        String resource = resources.get(ThreadLocalRandom.current().nextInt(resources.size()));
+        Operation operation = mix.next();
+        IdPool pool = ids.get(resource);
+        boolean success;
+        try {
+            success = switch (operation) {
+                case FIND_ALL -> ok(send(HttpRequest.newBuilder(uri(resource, "")).GET()));
+                case FIND_BY_ID -> ok(send(HttpRequest.newBuilder(uri(resource, "/" + pool.any())).GET()));
+                case CREATE -> create(resource, pool);
+                case UPDATE -> ok(send(HttpRequest.newBuilder(uri(resource, ""))
+                        .header("Content-Type", "application/json")
+                        .PUT(body(resource, pool.any()))));
+                case DELETE -> delete(resource, pool);
+            };
+        } catch (Exception e) {
+            success = false;
+        }
+        report.record(resource + ":" + operation.key(), System.nanoTime() - intendedStartNanos, success);
+    }
+
+    private boolean create(String resource, IdPool pool) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(resource, ""))
+                .header("Content-Type", "application/json")
+                .POST(body(resource, null)));
+        if (ok(response)) pool.add(json.readTree(response.body()).get("id").asLong(), true);
+        return ok(response);
+    }
+
+    private boolean delete(String resource, IdPool pool) throws Exception {
+        Long id = pool.takeCreated();
+        if (id == null) return create(resource, pool);
+        return ok(send(HttpRequest.newBuilder(uri(resource, "/" + id)).DELETE()));
+    }
+
+    private HttpRequest.BodyPublisher body(String resource, Long id) {
+        String idField = id == null ? "" : "\"id\":" + id + ",";
+        return HttpRequest.BodyPublishers.ofString(BODIES.get(resource).formatted(idField));
+    }
+
+    private URI uri(String resource, String suffix) {
+        return URI.create(baseUrl + "/api/" + resource + "/v1" + suffix);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return http.send(request.header("Accept", "application/json").timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean ok(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private static final class IdPool {
+
+        private final List<Long> all = new ArrayList<>();
+
+        private final List<Long> created = new ArrayList<>();
+
+        synchronized void add(long id, boolean createdByWorkload) {
+            all.add(id);
+            if (createdByWorkload) created.add(id);
+        }
+
+        synchronized long any() {
+            return all.get(ThreadLocalRandom.current().nextInt(all.size()));
+        }
+
+        synchronized Long takeCreated() {
+            if (created.isEmpty()) return null;
+            Long id = created.remove(ThreadLocalRandom.current().nextInt(created.size()));
+            all.remove(id);
+            return id;
+        }
+    }
+}
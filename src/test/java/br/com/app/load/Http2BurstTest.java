@@ -0,0 +1,107 @@
+package br.com.app.load;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Fires bursts of concurrent findById calls over HTTP/1.1 and over h2c and compares how many TCP
+// connections each needed and the latency distribution. Runs with the load harness:
+//   mvn -B test -Ploadtest -Dtest=Http2BurstTest -Dload.burst=200 -Dload.bursts=20
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.http2.enabled=true")
+class Http2BurstTest {
+
+    // Remote ports seen by the server; one per client connection.
+    private static final Set<Integer> CONNECTIONS = ConcurrentHashMap.newKeySet();
+
+    private final Logger logger = LoggerFactory.getLogger(Http2BurstTest.class.getName());
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void compareBurstsOverHttp11AndH2c() throws Exception {
+        int burst = Integer.getInteger("load.burst", 200);
+        int bursts = Integer.getInteger("load.bursts", 20);
+
+        LoadReport http11 = new LoadReport();
+        LoadReport h2c = new LoadReport();
+        int http11Connections = run(HttpClient.Version.HTTP_1_1, "http/1.1", burst, bursts, http11);
+        int h2cConnections = run(HttpClient.Version.HTTP_2, "h2c", burst, bursts, h2c);
+
+        logger.info("{} bursts of {} concurrent findById calls; connections used: HTTP/1.1 {}, h2c {}\n{}{}",
+                bursts, burst, http11Connections, h2cConnections, http11.format(), h2c.format());
+
+        assertEquals(0, http11.totalErrors());
+        assertEquals(0, h2c.totalErrors());
+        assertTrue(h2cConnections < http11Connections, "h2c should multiplex the burst over fewer connections");
+    }
+
+    private int run(HttpClient.Version version, String label, int burst, int bursts, LoadReport report)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(version).build();
+        URI uri = URI.create("http://localhost:" + port + "/api/book/v1/1");
+
+        // The first request performs the h2c upgrade; afterwards every stream shares that connection.
+        client.send(request(uri), HttpResponse.BodyHandlers.discarding());
+        CONNECTIONS.clear();
+
+        long start = System.nanoTime();
+        for (int b = 0; b < bursts; b++) {
+            List<CompletableFuture<Void>> calls = new ArrayList<>(burst);
+            for (int i = 0; i < burst; i++) {
+                long sent = System.nanoTime();
+                calls.add(client.sendAsync(request(uri), HttpResponse.BodyHandlers.discarding())
+                        .handle((response, failure) -> {
+                            boolean success = failure == null && response.statusCode() == 200
+                                    && response.version() == version;
+                            report.record(label + ":findById", System.nanoTime() - sent, success);
+                            return null;
+                        }));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        }
+        report.setElapsed(System.nanoTime() - start);
+
+        // Connections stay pooled between bursts, so this also shows how many survive reuse.
+        return Math.max(CONNECTIONS.size(), 1);
+    }
+
+    private static HttpRequest request(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Accept", "application/json").GET().build();
+    }
+
+    @TestConfiguration
+    static class ConnectionCounting {
+
+        @Bean
+        FilterRegistrationBean<Filter> connectionCountingFilter() {
+            return new FilterRegistrationBean<>((request, response, chain) -> {
+                CONNECTIONS.add(request.getRemotePort());
+                chain.doFilter(request, response);
+            });
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.app.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Streams a generated upload of load.import.rows rows (never materialised on either side) into
+// the bulk import endpoint and reports rows/s and the peak heap seen while it ran:
+//   mvn -B test -Ploadtest -Dtest=ImportBenchmarkTest -Dload.import.rows=1000000 -Dload.import.format=csv|ndjson
+//   add -Dapp.import.batch-size=5000 to compare batch sizes
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ImportBenchmarkTest {
+
+    private final Logger logger = LoggerFactory.getLogger(ImportBenchmarkTest.class.getName());
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void importGeneratedBooks() throws Exception {
+        long rows = Long.getLong("load.import.rows", 1_000_000);
+        boolean csv = !"ndjson".equals(System.getProperty("load.import.format", "csv"));
+
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/import/v1/book"))
+                .header("Content-Type", csv ? "text/csv" : "application/x-ndjson")
+                .timeout(Duration.ofMinutes(30))
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new GeneratedRows(rows, csv)))
+                .build();
+
+        resetPeakHeap();
+        long started = System.nanoTime();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode job = new ObjectMapper().readTree(response.body());
+        logger.info("Imported {} {} rows in {} ms: {} rows/s, peak heap {} MiB, job {}", job.get("rowsImported").asLong(),
+                csv ? "CSV" : "NDJSON", elapsed.toMillis(), rows * 1000 / Math.max(1, elapsed.toMillis()),
+                peakHeap() / (1024 * 1024), response.body());
+
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(rows, job.get("rowsImported").asLong());
+        assertEquals(0, job.get("rowsFailed").asLong());
+    }
+
+    private static void resetPeakHeap() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    // Sum of per-pool peaks: an upper bound, as the pools need not peak at the same time.
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    // Produces the upload one row at a time.
+    private static final class GeneratedRows extends InputStream {
+
+        private final long rows;
+
+        private final boolean csv;
+
+        private long next;
+
+        private byte[] current;
+
+        private int position;
+
+        GeneratedRows(long rows, boolean csv) {
+            this.rows = rows;
+            this.csv = csv;
+            this.current = csv ? "title,author,price,launchDate\n".getBytes(StandardCharsets.UTF_8) : new byte[0];
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) return 0;
+            while (position == current.length) {
+                if (next == rows) return -1;
+                next++;
+                String row = csv
+                        ? "Book " + next + ",\"Author, " + (next % 1000) + "\"," + (next % 100) + ".90,2024-01-01\n"
+                        : "{\"title\":\"Book " + next + "\",\"author\":\"Author " + (next % 1000) + "\",\"price\":"
+                            + (next % 100) + ".90,\"launchDate\":\"2024-01-01\"}\n";
+                current = row.getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.app.load;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Closed model: a fixed number of users, each issuing its next request when the previous one
+// returns (plus think time), so throughput adapts to the server.
+// Open model: requests arrive at a fixed rate regardless of how the server copes; latency is
+// measured from the scheduled arrival time, so queueing behind a stall is not hidden
+// (coordinated omission).
+final class LoadDriver {
+
+    @FunctionalInterface
+    interface Workload {
+
+        void execute(long intendedStartNanos, LoadReport report);
+    }
+
+    private LoadDriver() {
+
+    }
+
+    static LoadReport closed(Workload workload, int users, Duration duration, Duration thinkTime)
+            throws InterruptedException {
+        LoadReport report = new LoadReport();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        workload.execute(System.nanoTime(), report);
+                        if (!thinkTime.isZero()) LockSupport.parkNanos(thinkTime.toNanos());
+                    }
+                });
+            }
+        }
+
+        report.setElapsed(System.nanoTime() - start);
+        return report;
+    }
+
+    static LoadReport open(Workload workload, int ratePerSecond, Duration duration, int maxInFlight)
+            throws InterruptedException {
+        LoadReport report = new LoadReport();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long arrivals = duration.toNanos() / interval;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < arrivals; i++) {
+                long intendedStart = start + i * interval;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                // Past maxInFlight the harness itself would become the bottleneck; count it as an error.
+                if (!inFlight.tryAcquire()) {
+                    report.record("rejected", System.nanoTime() - intendedStart, false);
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        workload.execute(intendedStart, report);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        report.setElapsed(System.nanoTime() - start);
+        return report;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.app.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private long elapsedNanos = 1;
+
+    void record(String key, long latencyNanos, boolean success) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) entry.errors.incrementAndGet();
+    }
+
+    void setElapsed(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    long totalCount() {
+        return entries.values().stream().mapToLong(entry -> entry.latencies.getTotalCount()).sum();
+    }
+
+    long totalErrors() {
+        return entries.values().stream().mapToLong(entry -> entry.errors.get()).sum();
+    }
+
+    String format() {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder out = new StringBuilder(String.format("%-20s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        new TreeMap<>(entries).forEach((key, entry) -> {
+            Histogram h = entry.latencies;
+            out.append(String.format("%-20s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    key, h.getTotalCount(), entry.errors.get(), h.getTotalCount() / seconds,
+                    millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0));
+        });
+        out.append(String.format("%-20s %9d %7d %10.1f%n", "total", totalCount(), totalErrors(), totalCount() / seconds));
+        return out.toString();
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class Entry {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
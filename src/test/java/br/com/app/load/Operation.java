@@ -0,0 +1,27 @@
+package br.com.app.load;
+
+enum Operation {
+
+    FIND_ALL("findAll"),
+    FIND_BY_ID("findById"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) return operation;
+        }
+        throw new IllegalArgumentException("Unknown operation " + key);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.app.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateSamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private RateSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new RateSamplingTurboFilter();
+        filter.setPrefix("br.com.app");
+        filter.setMaxPerSecond(3);
+        filter.setExclude("br.com.app.logging.benchmark, br.com.app.audit");
+        filter.clock = now::get;
+    }
+
+    @Test
+    void capsEachLoggerPerSecondAndStartsOverInTheNextOne() {
+        Logger services = context.getLogger("br.com.app.services.BookServices");
+        Logger controllers = context.getLogger("br.com.app.controllers.BookController");
+
+        assertEquals(3, passed(services, Level.INFO, 5));
+        assertEquals(3, passed(controllers, Level.INFO, 5));
+
+        now.addAndGet(999);
+        assertEquals(FilterReply.DENY, decide(services, Level.INFO));
+
+        now.addAndGet(1);
+        assertEquals(3, passed(services, Level.INFO, 5));
+    }
+
+    @Test
+    void warnAndErrorPassOnceTheWindowIsFull() {
+        Logger services = context.getLogger("br.com.app.services.BookServices");
+        passed(services, Level.INFO, 5);
+
+        assertEquals(FilterReply.NEUTRAL, decide(services, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(services, Level.ERROR));
+        assertEquals(FilterReply.DENY, decide(services, Level.INFO));
+    }
+
+    @Test
+    void disabledLevelsAreNotCounted() {
+        Logger services = context.getLogger("br.com.app.services.BookServices");
+
+        assertEquals(5, passed(services, Level.DEBUG, 5));
+        assertEquals(3, passed(services, Level.INFO, 5));
+    }
+
+    @Test
+    void excludedLoggersAndOtherPackagesAreNeverSampled() {
+        assertEquals(10, passed(context.getLogger("br.com.app.logging.benchmark"), Level.INFO, 10));
+        assertEquals(10, passed(context.getLogger("br.com.app.audit.Trail"), Level.INFO, 10));
+        assertEquals(10, passed(context.getLogger("org.hibernate.SQL"), Level.INFO, 10));
+    }
+
+    private int passed(Logger logger, Level level, int events) {
+        int passed = 0;
+        for (int i = 0; i < events; i++) {
+            if (decide(logger, level) == FilterReply.NEUTRAL) passed++;
+        }
+        return passed;
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "event {}", null, null);
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.app.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramsTest {
+
+    private final LatencyHistograms histograms = new LatencyHistograms();
+
+    @Test
+    void recordsPerRouteAndStatusClass() {
+        for (int i = 1; i <= 1000; i++) {
+            histograms.record("GET", "/api/book/v1/{id}", 200, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        histograms.record("GET", "/api/book/v1/{id}", 404, TimeUnit.MILLISECONDS.toNanos(3));
+
+        histograms.rotate();
+
+        var stats = histograms.snapshot();
+        assertEquals(2, stats.size());
+
+        var ok = stats.get(0);
+        assertEquals("2xx", ok.status());
+        assertEquals(1000, ok.interval().count());
+        assertEquals(500, ok.interval().p50Millis(), 1);
+        assertEquals(990, ok.interval().p99Millis(), 1);
+        assertEquals(1000, ok.interval().maxMillis(), 1);
+
+        var notFound = stats.get(1);
+        assertEquals("4xx", notFound.status());
+        assertEquals(1, notFound.interval().count());
+    }
+
+    @Test
+    void rotationStartsANewIntervalButKeepsTheCumulativeView() {
+        histograms.record("POST", "/api/person/v1", 200, TimeUnit.MILLISECONDS.toNanos(10));
+        histograms.rotate();
+        histograms.rotate();
+
+        var stats = histograms.snapshot().get(0);
+        assertEquals(0, stats.interval().count());
+        assertEquals(1, stats.cumulative().count());
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.app.perf;
+
+import br.com.app.data.dto.BookDTO;
+import br.com.app.data.dto.PersonDTO;
+import br.com.app.model.Book;
+import br.com.app.repository.BookRepository;
+import br.com.app.repository.PersonRepository;
+import br.com.app.services.BookServices;
+import br.com.app.services.PersonServices;
+import br.com.app.unittests.mapper.mocks.MockBook;
+import br.com.app.unittests.mapper.mocks.MockPerson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static br.com.app.mapper.ObjectMapper.parseListObjects;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Guards the in-process request pipeline (mapping, HATEOAS links, JSON serialization) against
+// regressions. Repositories are mocked, so the numbers do not depend on a database.
+//
+// Runs only with -Pperf: wall time depends on the machine that recorded the budgets, so it stays out
+// of the default test run. Budgets live in src/test/resources/perf-baseline.properties and every
+// scenario must have one; after adding a scenario or an intentional change, re-record them with
+//   mvn -B test -Pperf -Dperf.updateBaseline=true
+// Allocation per operation is close to deterministic and gets a tight tolerance; wall time is
+// only a coarse guard against order-of-magnitude regressions.
+@Tag("perf")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PerformanceBudgetTest {
+
+    private static final Path BASELINE = Path.of("src/test/resources/perf-baseline.properties");
+
+    private static final int LARGE = 10_000;
+
+    private final Logger logger = LoggerFactory.getLogger(PerformanceBudgetTest.class.getName());
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+    private final boolean updateBaseline = Boolean.getBoolean("perf.updateBaseline");
+
+    private final Properties baseline = new Properties();
+
+    private final Properties measured = new Properties();
+
+    @InjectMocks
+    private BookServices bookServices;
+
+    @InjectMocks
+    private PersonServices personServices;
+
+    @Mock
+    BookRepository bookRepository;
+
+    @Mock
+    PersonRepository personRepository;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        if (Files.exists(BASELINE)) {
+            try (Reader reader = Files.newBufferedReader(BASELINE)) {
+                baseline.load(reader);
+            }
+        }
+    }
+
+    @AfterAll
+    void writeBaseline() throws IOException {
+        if (!updateBaseline) return;
+
+        Properties updated = new Properties();
+        updated.putAll(baseline);
+        updated.putAll(measured);
+        try (Writer writer = Files.newBufferedWriter(BASELINE)) {
+            writer.write("# Performance budgets enforced by PerformanceBudgetTest; re-record with\n");
+            writer.write("#   mvn -B test -Pperf -Dperf.updateBaseline=true\n");
+            writer.write("# Every scenario needs <scenario>.bytes and <scenario>.millis; a missing entry fails the test.\n");
+            for (var entry : new TreeMap<>(updated).entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+        logger.info("Performance baseline written to {}", BASELINE.toAbsolutePath());
+    }
+
+    @Test
+    void bookFindAllOf10k() {
+        List<BookDTO> books = IntStream.range(0, LARGE).mapToObj(new MockBook()::mockDTO).toList();
+        when(bookRepository.findAllAsDTO()).thenReturn(books);
+
+        check("book.findAll.10k", 3, 10,
+                () -> books.forEach(BookDTO::removeLinks),
+                () -> serialize(bookServices.findAll()));
+    }
+
+    @Test
+    void bookFindById() {
+        BookDTO book = new MockBook().mockDTO(1);
+        when(bookRepository.findDTOById(1L)).thenReturn(Optional.of(book));
+
+        check("book.findById", 2_000, 5_000, book::removeLinks, () -> serialize(bookServices.findById(1L)));
+    }
+
+    @Test
+    void personFindById() {
+        PersonDTO person = new MockPerson().mockDTO(1);
+        when(personRepository.findDTOById(1L)).thenReturn(Optional.of(person));
+
+        check("person.findById", 2_000, 5_000, person::removeLinks, () -> serialize(personServices.findById(1L)));
+    }
+
+    @Test
+    void mapBookEntitiesOf10k() {
+        List<Book> entities = new ArrayList<>(IntStream.range(0, LARGE).mapToObj(new MockBook()::mockEntity).toList());
+
+        check("mapper.book.10k", 3, 10, () -> { }, () -> parseListObjects(entities, BookDTO.class));
+    }
+
+    private void check(String scenario, int warmup, int iterations, Runnable reset, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            reset.run();
+            operation.run();
+        }
+
+        long[] nanos = new long[iterations];
+        long bytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            reset.run();
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            operation.run();
+            nanos[i] = System.nanoTime() - start;
+            bytes += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+        Arrays.sort(nanos);
+        double millis = nanos[iterations / 2] / 1e6;
+        long bytesPerOp = bytes / iterations;
+
+        logger.info("{}: median {} ms, {} bytes allocated per operation", scenario, String.format("%.3f", millis), bytesPerOp);
+        measured.setProperty(scenario + ".millis", String.format("%.3f", millis));
+        measured.setProperty(scenario + ".bytes", String.valueOf(bytesPerOp));
+        if (updateBaseline) return;
+
+        assertWithinBudget(scenario + ".bytes", bytesPerOp, tolerance("tolerance.bytes", 1.10));
+        assertWithinBudget(scenario + ".millis", millis, tolerance("tolerance.millis", 2.0));
+    }
+
+    private void assertWithinBudget(String key, double actual, double tolerance) {
+        String recorded = baseline.getProperty(key);
+        assertNotNull(recorded, "No budget recorded for " + key + ", run with -Pperf -Dperf.updateBaseline=true to add one");
+        double budget = Double.parseDouble(recorded) * tolerance;
+        assertTrue(actual <= budget, String.format("%s is %.3f, over its budget of %.3f (baseline %s x %.2f)",
+                key, actual, budget, recorded, tolerance));
+    }
+
+    private double tolerance(String key, double defaultValue) {
+        return Double.parseDouble(baseline.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private void serialize(Object body) {
+        try {
+            json.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
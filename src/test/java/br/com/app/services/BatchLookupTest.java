@@ -0,0 +1,64 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BatchLookupDTO;
+import br.com.app.data.dto.BookDTO;
+import br.com.app.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLookupTest {
+
+    private final List<List<Long>> queries = new ArrayList<>();
+
+    @Test
+    void splitsMissesIntoChunkedQueries() {
+        List<Long> ids = LongStream.rangeClosed(1, BatchLookup.MAX_IDS).boxed().toList();
+
+        var result = lookup(ids, null);
+
+        assertEquals(2, queries.size());
+        assertEquals(BatchLookup.CHUNK_SIZE, queries.get(0).size());
+        assertEquals(ids, result.items().stream().map(BookDTO::getId).toList());
+    }
+
+    @Test
+    void servesCacheHitsWithoutQueryingAndCachesLoadedRows() {
+        Cache cache = new ConcurrentMapCache("books");
+        cache.put(2L, book(2L));
+
+        lookup(List.of(1L, 2L), cache);
+        assertEquals(List.of(List.of(1L)), queries);
+
+        queries.clear();
+        var result = lookup(List.of(2L, 1L), cache);
+
+        assertTrue(queries.isEmpty());
+        assertEquals(List.of(2L, 1L), result.items().stream().map(BookDTO::getId).toList());
+        assertNotSame(cache.get(1L).get(), result.items().get(1));
+    }
+
+    @Test
+    void rejectsOversizedRequests() {
+        List<Long> ids = LongStream.rangeClosed(1, BatchLookup.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(BadRequestException.class, () -> lookup(ids, null));
+    }
+
+    private BatchLookupDTO<BookDTO> lookup(List<Long> ids, Cache cache) {
+        return BatchLookup.lookup(ids, cache, chunk -> {
+            queries.add(List.copyOf(chunk));
+            return chunk.stream().map(this::book).toList();
+        }, BookDTO::getId, book -> book(book.getId()));
+    }
+
+    private BookDTO book(Long id) {
+        return new BookDTO(id, "Title " + id, "Author " + id, 10D, null);
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BatchRequestDTO;
+import br.com.app.data.dto.BatchRequestDTO.Operation;
+import br.com.app.data.dto.BatchResponseDTO.Result;
+import br.com.app.data.dto.BookDTO;
+import br.com.app.data.dto.PersonDTO;
+import br.com.app.exception.BadRequestException;
+import br.com.app.exception.ResourceNotFoundException;
+import br.com.app.unittests.mapper.mocks.MockBook;
+import br.com.app.unittests.mapper.mocks.MockPerson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BatchServicesTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    ObjectMapper json = new ObjectMapper();
+
+    @Spy
+    AsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+
+    @Spy
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    @Mock
+    BookServices bookServices;
+
+    @Mock
+    PersonServices personServices;
+
+    @InjectMocks
+    private BatchServices service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service.maxOperations = 50;
+        service.timeout = Duration.ofSeconds(5);
+    }
+
+    @Test
+    void parallelBatchRoutesEachOperationAndReportsItsOwnStatus() {
+        BookDTO book = new MockBook().mockDTO(1);
+        when(bookServices.findById(1L)).thenReturn(book);
+        when(personServices.findById(9L)).thenThrow(new ResourceNotFoundException("No found records for this ID!"));
+        when(bookServices.create(any(BookDTO.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var response = service.execute(new BatchRequestDTO(null, List.of(
+                new Operation("GET", "/api/book/v1/1", null),
+                new Operation("GET", "/api/person/v1/9", null),
+                new Operation("POST", "/api/book/v1", json.createObjectNode().put("title", "Batch")),
+                new Operation("PATCH", "/api/book/v1", null),
+                new Operation("GET", "/api/unknown/v1", null))));
+
+        assertFalse(response.rolledBack());
+        assertEquals(List.of(200, 404, 200, 405, 404), response.results().stream().map(Result::status).toList());
+        assertSame(book, response.results().get(0).body());
+        assertEquals("Batch", ((BookDTO) response.results().get(2).body()).getTitle());
+    }
+
+    @Test
+    void transactionalBatchStopsAndRollsBackOnFirstFailure() {
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(personServices.create(any(PersonDTO.class))).thenReturn(new MockPerson().mockDTO(1));
+        doThrow(new ResourceNotFoundException("No found records for this ID!")).when(bookServices).delete(7L);
+
+        var response = service.execute(new BatchRequestDTO("transactional", List.of(
+                new Operation("POST", "/api/person/v1", json.createObjectNode().put("firstName", "Batch")),
+                new Operation("DELETE", "/api/book/v1/7", null),
+                new Operation("DELETE", "/api/person/v1/1", null))));
+
+        assertTrue(response.rolledBack());
+        assertTrue(status.isRollbackOnly());
+        assertEquals(List.of(200, 404, 424), response.results().stream().map(Result::status).toList());
+        verify(personServices, never()).delete(anyLong());
+        verify(transactionManager).getTransaction(argThat(definition -> definition.getTimeout() == 5));
+    }
+
+    @Test
+    void deadlineSkipsOperationsNotStartedButWaitsForRunningOnes() {
+        service.executor = new TaskExecutorAdapter(Executors.newSingleThreadExecutor());
+        service.timeout = Duration.ofMillis(100);
+        when(bookServices.create(any(BookDTO.class))).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return invocation.getArgument(0);
+        });
+
+        var response = service.execute(new BatchRequestDTO("parallel", List.of(
+                new Operation("POST", "/api/book/v1", json.valueToTree(new MockBook().mockDTO(1))),
+                new Operation("DELETE", "/api/person/v1/1", null))));
+
+        assertEquals(List.of(200, 504), response.results().stream().map(Result::status).toList());
+        verify(personServices, never()).delete(anyLong());
+    }
+
+    @Test
+    void rejectsOversizedBatches() {
+        var operations = Collections.nCopies(51, new Operation("GET", "/api/book/v1", null));
+
+        assertThrows(BadRequestException.class, () -> service.execute(new BatchRequestDTO(null, operations)));
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.app.services;
 
 import br.com.app.data.dto.BookDTO;
+import br.com.app.events.EntityChangedEvent;
 import br.com.app.exception.RequiredObjectIsNullException;
 import br.com.app.model.Book;
 import br.com.app.repository.BookRepository;
@@ -13,6 +14,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +38,12 @@ class BookServicesTest {
     @Mock
     BookRepository repository;
 
+    @Mock
+    ApplicationEventPublisher publisher;
+
+    @Mock
+    SyncServices sync;
+
     @BeforeEach
     void setUp() {
         input = new MockBook();
@@ -41,9 +53,8 @@ class BookServicesTest {
     @Test
     void findById() {
 
-        Book book = input.mockEntity(1);
-        book.setId(1L);
-        when(repository.findById(1L)).thenReturn(Optional.of(book));
+        BookDTO book = input.mockDTO(1);
+        when(repository.findDTOById(1L)).thenReturn(Optional.of(book));
 
         var result = service.findById(1L);
 
@@ -248,14 +259,16 @@ class BookServicesTest {
         verify(repository, times(1)).findById(anyLong());
         verify(repository, times(1)).delete(any(Book.class));
         verifyNoMoreInteractions(repository);
+        verify(sync, times(1)).markDeleted("book", 1L);
+        verify(publisher, times(1)).publishEvent(new EntityChangedEvent("book", EntityChangedEvent.Type.DELETED, 1L, null));
 
     }
 
     @Test
     void findAll() {
 
-        List<Book> list = input.mockEntityList();
-        when(repository.findAll()).thenReturn(list);
+        List<BookDTO> list = input.mockDTOList();
+        when(repository.findAllAsDTO()).thenReturn(list);
         List<BookDTO> book = service.findAll();
 
         assertNotNull(book);
@@ -404,8 +417,8 @@ class BookServicesTest {
     //@Test
     void findAllWithMethod() {
 
-        List<Book> list = input.mockEntityList();
-        when(repository.findAll()).thenReturn(list);
+        List<BookDTO> list = input.mockDTOList();
+        when(repository.findAllAsDTO()).thenReturn(list);
         List<BookDTO> book = service.findAll();
 
         assertNotNull(book);
@@ -464,4 +477,38 @@ class BookServicesTest {
         assertEquals("Title Test" + id, book.getTitle());
         assertEquals("Author Test" + id, book.getAuthor());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIds() {
+        when(repository.findDTOsByIdIn(List.of(3L, 1L, 99L))).thenReturn(List.of(input.mockDTO(1), input.mockDTO(3)));
+
+        var result = service.findByIds(List.of(3L, 1L, 3L, 99L));
+
+        assertEquals(List.of(3L, 1L), result.items().stream().map(BookDTO::getId).toList());
+        assertEquals(List.of(99L), result.missingIds());
+        assertTrue(result.items().stream().allMatch(item -> item.getLink("self").isPresent()));
+        verify(repository, times(1)).findDTOsByIdIn(anyCollection());
+    }
+
+    @Test
+    void deleteEvictsTheCacheOnlyAfterCommit() {
+        Book book = input.mockEntity(1);
+        book.setId(1L);
+        when(repository.findById(1L)).thenReturn(Optional.of(book));
+        Cache cache = mock(Cache.class);
+        service.cacheManager = mock(CacheManager.class);
+        when(service.cacheManager.getCache("books")).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.delete(1L);
+            verify(cache, never()).evict(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cache, times(1)).evict(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            service.cacheManager = null;
+        }
+    }
+}
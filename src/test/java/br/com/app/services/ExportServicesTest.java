@@ -0,0 +1,107 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BookDTO;
+import br.com.app.events.EntityChangedEvent;
+import br.com.app.exception.ResourceNotFoundException;
+import br.com.app.repository.BookRepository;
+import br.com.app.repository.PersonRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExportServicesTest {
+
+    @TempDir
+    Path directory;
+
+    private ExportServices service;
+
+    private BookRepository books;
+
+    @BeforeEach
+    void setUp() {
+        books = mock(BookRepository.class);
+        service = new ExportServices();
+        service.bookRepository = books;
+        service.personRepository = mock(PersonRepository.class);
+        service.json = new ObjectMapper();
+        service.transactionManager = mock(PlatformTransactionManager.class);
+        service.exportExecutor = Runnable::run;
+        service.directory = directory;
+        service.pageSize = 2;
+        service.settle = Duration.ofSeconds(10);
+        service.maxDelay = Duration.ofMinutes(5);
+    }
+
+    @Test
+    void pagesThroughTheTableIntoCsvAndJson() throws Exception {
+        when(books.findPageAfter(eq(0L), any())).thenReturn(List.of(book(1L, "Plain"), book(2L, "Comma, \"quoted\"")));
+        when(books.findPageAfter(eq(2L), any())).thenReturn(List.of(book(3L, "Last")));
+
+        service.export("book");
+
+        List<String> csv = Files.readAllLines(service.findSnapshot("book", "csv").path());
+        assertEquals("id,title,author,price,launchDate,updatedAt", csv.get(0));
+        assertEquals(4, csv.size());
+        assertTrue(csv.get(2).startsWith("2,\"Comma, \"\"quoted\"\"\",Author,"));
+
+        JsonNode json = new ObjectMapper().readTree(service.findSnapshot("book", "json").path().toFile());
+        assertEquals(3, json.size());
+        assertEquals("Last", json.get(2).get("title").asText());
+    }
+
+    @Test
+    void keepsOnlyCurrentAndPreviousGeneration() throws Exception {
+        when(books.findPageAfter(eq(0L), any())).thenReturn(List.of(book(1L, "Plain")));
+
+        service.export("book");
+        Thread.sleep(2);
+        service.export("book");
+        Thread.sleep(2);
+        service.export("book");
+
+        try (var files = Files.list(directory)) {
+            assertEquals(4, files.count());
+        }
+    }
+
+    @Test
+    void waitsForWritesToSettle() {
+        when(books.findPageAfter(eq(0L), any())).thenReturn(List.of());
+        when(service.personRepository.findPageAfter(eq(0L), any())).thenReturn(List.of());
+
+        service.refresh();
+        verify(books, times(1)).findPageAfter(eq(0L), any());
+
+        service.onEntityChanged(new EntityChangedEvent("book", EntityChangedEvent.Type.UPDATED, 1L, null));
+        service.refresh();
+        verify(books, times(1)).findPageAfter(eq(0L), any());
+
+        service.settle = Duration.ZERO;
+        service.refresh();
+        verify(books, times(2)).findPageAfter(eq(0L), any());
+    }
+
+    @Test
+    void unknownFormatIsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> service.findSnapshot("book", "xlsx"));
+    }
+
+    private static BookDTO book(Long id, String title) {
+        return new BookDTO(id, title, "Author", 10D, new Date(0), new Date());
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.ImportJobDTO;
+import br.com.app.events.ChangeFeed;
+import br.com.app.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ImportServicesTest {
+
+    private ImportServices service;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:import;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE books (id bigint AUTO_INCREMENT PRIMARY KEY, title longtext, author longtext, " +
+                "price decimal(65,2) NOT NULL, launch_date datetime(6) NOT NULL, updated_at datetime(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE person (id bigint AUTO_INCREMENT PRIMARY KEY, first_name varchar(80) NOT NULL, " +
+                "last_name varchar(80) NOT NULL, address varchar(100) NOT NULL, gender varchar(6) NOT NULL, " +
+                "updated_at datetime(6) NOT NULL)");
+
+        service = new ImportServices();
+        service.jdbcTemplate = jdbcTemplate;
+        service.transactionManager = new DataSourceTransactionManager(dataSource);
+        service.json = new ObjectMapper();
+        service.exports = mock(ExportServices.class);
+        service.changeFeed = mock(ChangeFeed.class);
+        service.batchSize = 2;
+        service.maxErrors = 10;
+        service.retainedJobs = 2;
+        service.maxRowBytes = 200;
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void importsCsvInBatchesAndReportsInvalidRows() {
+        String csv = """
+                id,title,author,price,launchDate
+                99,"Refactoring, 2nd ed.",Martin Fowler,49.90,2018-11-20
+                ,"Multi
+                line ""title""\",Someone,10,2017-11-29T13:50:05.878Z
+                ,Missing author,,10,2017-11-29
+                ,Bad price,Someone,cheap,2017-11-29
+                ,Plain,Someone,5,1511963405878
+                """;
+
+        long started = System.currentTimeMillis();
+        ImportJobDTO job = service.importRows("book", "text/csv", stream(csv));
+
+        assertEquals("COMPLETED", job.status());
+        assertEquals(5, job.rowsRead());
+        assertEquals(3, job.rowsImported());
+        assertEquals(2, job.rowsFailed());
+        assertEquals(List.of(3L, 4L), job.errors().stream().map(ImportJobDTO.RowError::row).toList());
+        assertEquals("Multi\nline \"title\"", jdbcTemplate.queryForObject("SELECT title FROM books WHERE author = 'Someone' ORDER BY id LIMIT 1", String.class));
+        assertFalse(jdbcTemplate.queryForList("SELECT id FROM books", Long.class).contains(99L));
+        verify(service.exports).markStale("book");
+        verify(service.changeFeed).reset("book");
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM books WHERE updated_at < ?", Integer.class, new Timestamp(started)));
+    }
+
+    @Test
+    void importsNdjson() {
+        String ndjson = """
+                {"firstName":"Ada","lastName":"Lovelace","address":"London","gender":"Female"}
+                not json
+
+                {"firstName":"Alan","lastName":"Turing","address":"Wilmslow","gender":"Male"}
+                {"firstName":"Nobody","lastName":"Here","address":"Nowhere","gender":"Unknown"}
+                """;
+
+        ImportJobDTO job = service.importRows("person", "application/x-ndjson; charset=UTF-8", stream(ndjson));
+
+        assertEquals(4, job.rowsRead());
+        assertEquals(2, job.rowsImported());
+        assertEquals(2, job.rowsFailed());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM person", Integer.class));
+    }
+
+    @Test
+    void stopsOnDatabaseErrorKeepingCommittedBatches() {
+        jdbcTemplate.execute("ALTER TABLE person ADD CONSTRAINT uk_first_name UNIQUE (first_name)");
+        String ndjson = """
+                {"firstName":"A","lastName":"B","address":"C","gender":"Male"}
+                {"firstName":"B","lastName":"B","address":"C","gender":"Male"}
+                {"firstName":"A","lastName":"B","address":"C","gender":"Male"}
+                """;
+
+        ImportJobDTO job = service.importRows("person", "application/x-ndjson", stream(ndjson));
+
+        assertEquals("FAILED", job.status());
+        assertEquals(2, job.rowsImported());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM person", Integer.class));
+    }
+
+    @Test
+    void unexpectedFailureStillFinishesTheJob() {
+        service.transactionManager = mock(PlatformTransactionManager.class);
+        when(service.transactionManager.getTransaction(any())).thenThrow(new CannotCreateTransactionException("pool exhausted"));
+
+        assertThrows(CannotCreateTransactionException.class, () -> service.importRows("person", "application/x-ndjson",
+                stream("{\"firstName\":\"A\",\"lastName\":\"B\",\"address\":\"C\",\"gender\":\"Male\"}\n")));
+
+        ImportJobDTO job = service.findJobs().get(0);
+        assertEquals("FAILED", job.status());
+        assertEquals("pool exhausted", job.message());
+    }
+
+    @Test
+    void keepsOnlyRecentFinishedJobs() {
+        for (int i = 0; i < 4; i++) {
+            service.importRows("person", "text/csv", stream("firstName,lastName,address,gender\n"));
+        }
+
+        assertEquals(List.of(4L, 3L), service.findJobs().stream().map(ImportJobDTO::id).toList());
+    }
+
+    @Test
+    void skipsOverlongRowsAndKeepsGoing() {
+        String long_ = "x".repeat(500);
+        String csv = "title,author,price,launchDate\n" + long_ + ",Someone,10,2017-11-29\nShort,Someone,10,2017-11-29\n";
+        String ndjson = "{\"firstName\":\"" + long_ + "\"}\n"
+                + "{\"firstName\":\"Ada\",\"lastName\":\"Lovelace\",\"address\":\"London\",\"gender\":\"Female\"}\n";
+
+        ImportJobDTO books = service.importRows("book", "text/csv", stream(csv));
+        ImportJobDTO people = service.importRows("person", "application/x-ndjson", stream(ndjson));
+
+        assertEquals(List.of(1L, 1L), List.of(books.rowsImported(), books.rowsFailed()));
+        assertEquals(List.of(1L, 1L), List.of(people.rowsImported(), people.rowsFailed()));
+    }
+
+    @Test
+    void runawayQuotedFieldFailsTheJob() {
+        String csv = "title,author,price,launchDate\nOk,Someone,10,2017-11-29\n\"" + "x\n".repeat(500);
+
+        ImportJobDTO job = service.importRows("book", "text/csv", stream(csv));
+
+        assertEquals("FAILED", job.status());
+        assertEquals(0, job.rowsImported());
+        assertTrue(job.message().contains("no record boundary"));
+    }
+
+    @Test
+    void rejectsOtherContentTypes() {
+        assertThrows(BadRequestException.class,
+                () -> service.importRows("book", "application/json", stream("[]")));
+        assertThrows(BadRequestException.class,
+                () -> service.importRows("book", null, stream("[]")));
+    }
+
+    @Test
+    void csvReaderHandlesQuotesAndLineEndings() throws Exception {
+        var reader = new CsvReader(new StringReader("a,\"b,c\"\r\n\"\"\"q\"\"\",\n"), 100);
+
+        assertEquals(List.of("a", "b,c"), reader.next());
+        assertEquals(List.of("\"q\"", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
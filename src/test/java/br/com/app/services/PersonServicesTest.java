@@ -1,6 +1,7 @@
 package br.com.app.services;
 
 import br.com.app.data.dto.PersonDTO;
+import br.com.app.events.EntityChangedEvent;
 import br.com.app.exception.RequiredObjectIsNullException;
 import br.com.app.model.Person;
 import br.com.app.repository.PersonRepository;
@@ -14,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +35,12 @@ class PersonServicesTest {
     @Mock
     PersonRepository repository;
 
+    @Mock
+    ApplicationEventPublisher publisher;
+
+    @Mock
+    SyncServices sync;
+
     @BeforeEach
     void setUp() {
         input = new MockPerson();
@@ -42,9 +50,8 @@ class PersonServicesTest {
     @Test
     void findById() {
 
-        Person person = input.mockEntity(1);
-        person.setId(1L);
-        when(repository.findById(1L)).thenReturn(Optional.of(person));
+        PersonDTO person = input.mockDTO(1);
+        when(repository.findDTOById(1L)).thenReturn(Optional.of(person));
 
         var result = service.findById(1L);
 
@@ -249,14 +256,16 @@ class PersonServicesTest {
         verify(repository, times(1)).findById(anyLong());
         verify(repository, times(1)).delete(any(Person.class));
         verifyNoMoreInteractions(repository);
+        verify(sync, times(1)).markDeleted("person", 1L);
+        verify(publisher, times(1)).publishEvent(new EntityChangedEvent("person", EntityChangedEvent.Type.DELETED, 1L, null));
 
     }
 
     @Test
     void findAll() {
 
-        List<Person> list = input.mockEntityList();
-        when(repository.findAll()).thenReturn(list);
+        List<PersonDTO> list = input.mockDTOList();
+        when(repository.findAllAsDTO()).thenReturn(list);
         List<PersonDTO> people = service.findAll();
 
         assertNotNull(people);
@@ -405,8 +414,8 @@ class PersonServicesTest {
     @Test
     void findAllWithMethod() {
 
-        List<Person> list = input.mockEntityList();
-        when(repository.findAll()).thenReturn(list);
+        List<PersonDTO> list = input.mockDTOList();
+        when(repository.findAllAsDTO()).thenReturn(list);
         List<PersonDTO> people = service.findAll();
 
         assertNotNull(people);
@@ -468,4 +477,16 @@ class PersonServicesTest {
         var gender = (id % 2) == 0 ? "Male" : "Female";
         assertEquals(gender, person.getGender());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIds() {
+        when(repository.findDTOsByIdIn(List.of(3L, 1L, 99L))).thenReturn(List.of(input.mockDTO(1), input.mockDTO(3)));
+
+        var result = service.findByIds(List.of(3L, 1L, 3L, 99L));
+
+        assertEquals(List.of(3L, 1L), result.items().stream().map(PersonDTO::getId).toList());
+        assertEquals(List.of(99L), result.missingIds());
+        assertTrue(result.items().stream().allMatch(item -> item.getLink("self").isPresent()));
+        verify(repository, times(1)).findDTOsByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.app.services;
+
+import br.com.app.exception.BadRequestException;
+import br.com.app.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfilingServicesTest {
+
+    @TempDir
+    Path directory;
+
+    private ProfilingServices service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProfilingServices();
+        ReflectionTestUtils.setField(service, "directory", directory);
+    }
+
+    @Test
+    void allocationRecordingReportsApplicationSites() throws Exception {
+        service.start(ProfilingServices.Preset.ALLOCATION, Duration.ofMinutes(1));
+        assertTrue(service.status().startsWith("ALLOCATION"));
+
+        allocate();
+
+        Path file = service.stop();
+        assertTrue(Files.size(file) > 0);
+        assertEquals("IDLE", service.status());
+
+        var summary = service.summarizeLast(10);
+
+        assertEquals("ALLOCATION", summary.preset());
+        assertTrue(summary.events() > 0);
+        assertTrue(summary.allocationSites()
+                .stream()
+                .anyMatch(site -> site.frame().startsWith(ProfilingServicesTest.class.getName() + ".allocate")));
+    }
+
+    @Test
+    void stopWithoutStart() {
+        Exception exception = assertThrows(ConflictException.class, () -> service.stop());
+
+        assertTrue(exception.getMessage().contains("No recording was started!"));
+    }
+
+    @Test
+    void unknownPresetIsABadRequest() {
+        assertEquals(ProfilingServices.Preset.ALLOCATION, ProfilingServices.Preset.of("allocation"));
+        assertThrows(BadRequestException.class, () -> ProfilingServices.Preset.of("heap"));
+    }
+
+    private void allocate() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMillis(500).toNanos();
+        List<byte[]> retained = new ArrayList<>();
+        while (System.nanoTime() < deadline) {
+            retained.add(new byte[64 * 1024]);
+            if (retained.size() > 256) retained.clear();
+            Thread.sleep(0, 1000);
+        }
+    }
+}
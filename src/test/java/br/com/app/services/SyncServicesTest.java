@@ -0,0 +1,151 @@
+package br.com.app.services;
+
+import br.com.app.data.dto.BookDTO;
+import br.com.app.exception.BadRequestException;
+import br.com.app.model.Tombstone;
+import br.com.app.repository.TombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SyncServicesTest {
+
+    private SyncServices sync;
+
+    private TombstoneRepository repository;
+
+    private final List<Date> sinceSeen = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TombstoneRepository.class);
+        sync = new SyncServices();
+        sync.repository = repository;
+        sync.safetyWindow = Duration.ofSeconds(5);
+        sync.pageSize = 2;
+        sync.tombstoneRetention = Duration.ofDays(30);
+    }
+
+    @Test
+    void safetyWindowMustExceedTheBatchTimeout() {
+        sync.batchTimeout = Duration.ofSeconds(30);
+        sync.safetyWindow = Duration.ofSeconds(60);
+        sync.checkSafetyWindow();
+
+        sync.safetyWindow = Duration.ofSeconds(30);
+        assertThrows(IllegalStateException.class, sync::checkSafetyWindow);
+    }
+
+    @Test
+    void tokenRoundTrips() {
+        var token = new SyncToken(1700000000123L, 42L, 1700000000456L, Long.MAX_VALUE);
+
+        assertEquals(token, SyncToken.decode(token.encode()));
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThrows(BadRequestException.class, () -> SyncToken.decode("not-a-token"));
+    }
+
+    @Test
+    void rejectsTokenOlderThanRetention() {
+        Date old = new Date(System.currentTimeMillis() - Duration.ofDays(31).toMillis());
+        String since = SyncToken.initial(old).withUpserted(old, 1).encode();
+
+        assertThrows(BadRequestException.class,
+                () -> sync.changesSince("book", since, BookDTO::getUpdatedAt, BookDTO::getId, this::noRows));
+    }
+
+    @Test
+    void firstSyncStartsFromEpochAndSkipsOldDeletes() {
+        when(repository.findDeletedSince(eq("book"), any(), anyLong(), any(), any())).thenReturn(List.of());
+
+        var changes = sync.changesSince("book", null, BookDTO::getUpdatedAt, BookDTO::getId,
+                (since, id, until, limit) -> {
+                    sinceSeen.add(since);
+                    return List.of(book(1L, until));
+                });
+
+        assertEquals(new Date(0), sinceSeen.get(0));
+        assertEquals(1, changes.upserts().size());
+        assertTrue(changes.deletes().isEmpty());
+        assertFalse(changes.hasMore());
+    }
+
+    @Test
+    void fullPageContinuesFromLastRow() {
+        Date stamp = new Date(System.currentTimeMillis() - 60_000);
+        var tombstone = new Tombstone("book", 9L, stamp);
+        when(repository.findDeletedSince(eq("book"), any(), anyLong(), any(), any())).thenReturn(List.of(tombstone));
+
+        var changes = sync.changesSince("book", null, BookDTO::getUpdatedAt, BookDTO::getId,
+                (since, id, until, limit) -> List.of(book(1L, stamp), book(2L, stamp)));
+
+        assertTrue(changes.hasMore());
+        assertEquals(List.of(9L), changes.deletes());
+
+        var next = SyncToken.decode(changes.nextToken());
+        assertEquals(stamp, next.upsertedSince());
+        assertEquals(2L, next.upsertedId());
+        assertEquals(Long.MAX_VALUE, next.deletedId());
+    }
+
+    @Test
+    void pagesPastRowsSharingOneMicrosecondStamp() {
+        when(repository.findDeletedSince(eq("book"), any(), anyLong(), any(), any())).thenReturn(List.of());
+        Timestamp backfilled = new Timestamp(System.currentTimeMillis() - 60_000);
+        backfilled.setNanos(backfilled.getNanos() + 123_456);
+        List<BookDTO> rows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            rows.add(book(id, backfilled));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String since = null;
+        boolean hasMore = true;
+        for (int page = 0; hasMore; page++) {
+            assertTrue(page < 5, "sync never got past the rows sharing one stamp");
+            var changes = sync.changesSince("book", since, BookDTO::getUpdatedAt, BookDTO::getId,
+                    (from, id, until, limit) -> keyset(rows, from, id, until, limit));
+            changes.upserts().forEach(book -> seen.add(book.getId()));
+            since = changes.nextToken();
+            hasMore = changes.hasMore();
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), seen);
+    }
+
+    // What findChangedSince does in the database, compared at full timestamp precision.
+    private static List<BookDTO> keyset(List<BookDTO> rows, Date since, Long id, Date until, Limit limit) {
+        Timestamp from = new Timestamp(since.getTime());
+        if (since instanceof Timestamp timestamp) from = timestamp;
+        Timestamp to = new Timestamp(until.getTime());
+        List<BookDTO> page = new ArrayList<>();
+        for (BookDTO row : rows) {
+            Timestamp at = (Timestamp) row.getUpdatedAt();
+            boolean after = at.compareTo(from) > 0 || (at.compareTo(from) == 0 && row.getId() > id);
+            if (after && at.compareTo(to) <= 0 && page.size() < limit.max()) page.add(row);
+        }
+        return page;
+    }
+
+    private List<BookDTO> noRows(Date since, Long id, Date until, Limit limit) {
+        return List.of();
+    }
+
+    private static BookDTO book(Long id, Date updatedAt) {
+        return new BookDTO(id, "Title " + id, "Author", 10D, new Date(), updatedAt);
+    }
+}